@@ -87,6 +87,18 @@ export interface PostRevision {
   createdByFullName?: string;
 }
 
+export interface PostRevisionSummary {
+  id: string;
+  postId: string;
+  revisionNumber: number;
+  title: string;
+  contentLength?: number;
+  createdAt: string;
+  createdById?: string;
+  createdByUsername?: string;
+  createdByFullName?: string;
+}
+
 export interface PostState {
   posts: Post[];
   totalItems: number;
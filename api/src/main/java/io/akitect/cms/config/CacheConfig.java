@@ -0,0 +1,14 @@
+package io.akitect.cms.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables the Caffeine cache manager configured under {@code spring.cache} in
+ * application.yaml. Cache statistics are published through the actuator
+ * {@code metrics} endpoint (cache.gets, cache.puts, cache.evictions).
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+}
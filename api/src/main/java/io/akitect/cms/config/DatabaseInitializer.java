@@ -3,6 +3,7 @@ package io.akitect.cms.config;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,6 +24,18 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class DatabaseInitializer {
 
+    public static final List<String> DEFAULT_PERMISSIONS = List.of(
+            "user:read", "user:write", "user:delete",
+            "post:read", "post:write", "post:delete",
+            "category:read", "category:write", "category:delete",
+            "series:read", "series:write", "series:delete",
+            "lesson:read", "lesson:write", "lesson:delete",
+            "comment:read", "comment:write", "comment:delete",
+            "media:read", "media:write", "media:delete",
+            "configuration:read", "configuration:write",
+            "role:read", "role:write", "role:delete",
+            "permission:read", "permission:write", "permission:delete");
+
     @Autowired
     private RoleRepository roleRepository;
 
@@ -74,20 +87,7 @@ public class DatabaseInitializer {
     private void createDefaultPermissions() {
         if (permissionRepository.count() == 0) {
             log.info("Creating default permissions...");
-            String[] permissionNames = {
-                    "user:read", "user:write", "user:delete",
-                    "post:read", "post:write", "post:delete",
-                    "category:read", "category:write", "category:delete",
-                    "series:read", "series:write", "series:delete",
-                    "lesson:read", "lesson:write", "lesson:delete",
-                    "comment:read", "comment:write", "comment:delete",
-                    "media:read", "media:write", "media:delete",
-                    "configuration:read", "configuration:write",
-                    "role:read", "role:write", "role:delete",
-                    "permission:read", "permission:write", "permission:delete"
-            };
-
-            for (String name : permissionNames) {
+            for (String name : DEFAULT_PERMISSIONS) {
                 Permission permission = new Permission();
                 permission.setName(name);
                 permission.setDescription("Permission to " + name.replace(":", " "));
@@ -0,0 +1,13 @@
+package io.akitect.cms.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables the background jobs (counter flushes, cleanup tasks) declared with
+ * {@code @Scheduled} across the application.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,11 +1,15 @@
 package io.akitect.cms.config;
 
 import io.akitect.cms.security.AuthTokenFilter;
+import io.akitect.cms.security.CustomMethodSecurityExpressionHandler;
+import io.akitect.cms.security.PermissionRegistry;
 import io.akitect.cms.security.UserDetailsServiceImpl;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionHandler;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -50,6 +54,12 @@ public class SecurityConfig {
         return authConfig.getAuthenticationManager();
     }
 
+    @Bean
+    public static MethodSecurityExpressionHandler methodSecurityExpressionHandler(
+            ObjectProvider<PermissionRegistry> permissionRegistry) {
+        return new CustomMethodSecurityExpressionHandler(permissionRegistry);
+    }
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
@@ -3,6 +3,7 @@ package io.akitect.cms.controller.admin;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -14,6 +15,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -28,8 +30,12 @@ import org.springframework.web.bind.annotation.RestController;
 import io.akitect.cms.dto.CategoryDTO;
 import io.akitect.cms.model.Category;
 import io.akitect.cms.repository.CategoryRepository;
-import io.akitect.cms.util.CategoryMapper;
+import io.akitect.cms.service.CategoryHierarchy;
+import io.akitect.cms.service.CategoryTreeCache;
+import io.akitect.cms.service.SlugAllocator;
+import io.akitect.cms.service.SlugAllocator.SlugTable;
 import io.akitect.cms.util.Constants;
+import io.akitect.cms.util.SlugUtil;
 
 @RestController
 @RequestMapping(Constants.ADMIN_BASE_PATH + "/categories")
@@ -38,6 +44,15 @@ public class CategoryController {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private CategoryTreeCache categoryTreeCache;
+
+    @Autowired
+    private CategoryHierarchy categoryHierarchy;
+
+    @Autowired
+    private SlugAllocator slugAllocator;
+
     @GetMapping
     public ResponseEntity<Map<String, Object>> getAllCategories(
             @RequestParam(defaultValue = "0") int page,
@@ -118,7 +133,13 @@ public class CategoryController {
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
+    @Transactional
     public ResponseEntity<?> createCategory(@RequestBody Category category) {
+        // Generate a unique slug from the name if none was given
+        if (category.getSlug() == null || category.getSlug().isBlank()) {
+            category.setSlug(slugAllocator.allocate(SlugTable.CATEGORIES, SlugUtil.createSlug(category.getName()), null));
+        }
+
         // Check if the slug already exists
         Category existingCategory = categoryRepository.findBySlug(category.getSlug());
         if (existingCategory != null) {
@@ -127,10 +148,15 @@ public class CategoryController {
             return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
         }
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(categoryRepository.save(category));
+        Category savedCategory = categoryRepository.saveAndFlush(category);
+        categoryHierarchy.add(savedCategory.getId(),
+                savedCategory.getParent() != null ? savedCategory.getParent().getId() : null);
+        categoryTreeCache.invalidateAfterCommit();
+        return ResponseEntity.status(HttpStatus.CREATED).body(savedCategory);
     }
 
     @PutMapping("/{id}")
+    @Transactional
     public ResponseEntity<?> updateCategory(@PathVariable UUID id, @RequestBody Category categoryDetails) {
         Optional<Category> optionalCategory = categoryRepository.findById(id);
         if (optionalCategory.isEmpty()) {
@@ -145,6 +171,7 @@ public class CategoryController {
         }
 
         Category category = optionalCategory.get();
+        UUID previousParentId = category.getParent() != null ? category.getParent().getId() : null;
         category.setName(categoryDetails.getName());
         category.setSlug(categoryDetails.getSlug());
         category.setDescription(categoryDetails.getDescription());
@@ -162,6 +189,13 @@ public class CategoryController {
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
             }
 
+            // Prevent cycles by ensuring a category can't move under its own descendant
+            if (categoryHierarchy.isInSubtree(categoryDetails.getParent().getId(), id)) {
+                Map<String, String> error = new HashMap<>();
+                error.put("error", "A category cannot be moved under its own descendant");
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+            }
+
             // Verify parent exists
             Optional<Category> parentCategory = categoryRepository.findById(categoryDetails.getParent().getId());
             if (parentCategory.isEmpty()) {
@@ -175,13 +209,21 @@ public class CategoryController {
             category.setParent(null);
         }
 
-        return ResponseEntity.ok(categoryRepository.save(category));
+        Category savedCategory = categoryRepository.saveAndFlush(category);
+        UUID parentId = savedCategory.getParent() != null ? savedCategory.getParent().getId() : null;
+        if (!Objects.equals(previousParentId, parentId)) {
+            categoryHierarchy.move(id, parentId);
+        }
+        categoryTreeCache.invalidateAfterCommit();
+        return ResponseEntity.ok(savedCategory);
     }
 
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
+    @Transactional
     public void deleteCategory(@PathVariable UUID id) {
         categoryRepository.deleteById(id);
+        categoryTreeCache.invalidateAfterCommit();
     }
 
     /**
@@ -191,12 +233,8 @@ public class CategoryController {
      */
     @GetMapping("/tree")
     public ResponseEntity<Map<String, Object>> getAllCategoriesAsTree() {
-        // Find all categories with eager loading of children to ensure proper hierarchy
-        // building
-        List<Category> allCategories = categoryRepository.findAll(Sort.by("displayOrder"));
-
-        // Convert to DTO tree structure using the improved mapper
-        List<CategoryDTO> categoryTree = CategoryMapper.toCategoryTreeDTOs(allCategories);
+        // Served from the cached snapshot, rebuilt after category changes
+        List<CategoryDTO> categoryTree = categoryTreeCache.getTree();
 
         // Create response map
         Map<String, Object> response = new HashMap<>();
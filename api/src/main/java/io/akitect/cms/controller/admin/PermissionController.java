@@ -45,7 +45,7 @@ import jakarta.validation.Valid;
 
 @RestController
 @RequestMapping(Constants.ADMIN_BASE_PATH + "/permissions")
-@PreAuthorize("hasAuthority('user:write')")
+@PreAuthorize("hasGrantedAuthority('user:write')")
 @Tag(name = "Permission Management", description = "APIs for managing permissions in the system")
 public class PermissionController extends AdminBaseController {
 
@@ -73,7 +73,7 @@ public class PermissionController extends AdminBaseController {
             @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    @PreAuthorize("hasAuthority('permission:read')")
+    @PreAuthorize("hasGrantedAuthority('permission:read')")
     public ResponseEntity<Map<String, Object>> getAllPermissions(
             @Parameter(description = "Page number (zero-based)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Number of items per page") @RequestParam(defaultValue = "10") int size,
@@ -145,7 +145,7 @@ public class PermissionController extends AdminBaseController {
             @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    @PreAuthorize("hasAuthority('user:write')")
+    @PreAuthorize("hasGrantedAuthority('user:write')")
     public ResponseEntity<PermissionDTO> createPermission(
             @Parameter(description = "Permission creation data", required = true) @Valid @RequestBody PermissionCreateDTO permissionCreateDTO) {
         try {
@@ -186,7 +186,7 @@ public class PermissionController extends AdminBaseController {
             @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    @PreAuthorize("hasAuthority('user:write')")
+    @PreAuthorize("hasGrantedAuthority('user:write')")
     public ResponseEntity<PermissionDTO> updatePermission(
             @Parameter(description = "Permission ID", required = true) @PathVariable UUID id,
             @Parameter(description = "Updated permission data", required = true) @Valid @RequestBody PermissionUpdateDTO permissionUpdateDTO) {
@@ -231,7 +231,7 @@ public class PermissionController extends AdminBaseController {
             @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    @PreAuthorize("hasAuthority('user:write')")
+    @PreAuthorize("hasGrantedAuthority('user:write')")
     public ResponseEntity<MessageResponse> deletePermission(
             @Parameter(description = "Permission ID", required = true) @PathVariable UUID id) {
         try {
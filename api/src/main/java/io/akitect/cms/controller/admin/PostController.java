@@ -1,12 +1,12 @@
 package io.akitect.cms.controller.admin;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -21,9 +21,12 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import io.akitect.cms.dto.CursorPageDTO;
 import io.akitect.cms.dto.PostCreateDTO;
 import io.akitect.cms.dto.PostDTO;
 import io.akitect.cms.dto.PostRevisionDTO;
+import io.akitect.cms.dto.PostRevisionSummaryDTO;
+import io.akitect.cms.dto.PostSummaryDTO;
 import io.akitect.cms.dto.PostUpdateDTO;
 import io.akitect.cms.model.User;
 import io.akitect.cms.repository.UserRepository;
@@ -69,10 +72,8 @@ public class PostController extends AdminBaseController {
             @Parameter(description = "Filter by status (DRAFT, PUBLISHED, etc.)") @RequestParam(required = false) String status,
             @Parameter(description = "Filter by category ID") @RequestParam(required = false) UUID categoryId,
             @Parameter(description = "Filter by author ID") @RequestParam(required = false) UUID authorId,
-            @Parameter(description = "Filter by featured posts") @RequestParam(required = false) Boolean featured) {
-
-        // Create pageable
-        var pageable = PageableUtil.createPageRequest(page, size, sortBy, direction);
+            @Parameter(description = "Filter by featured posts") @RequestParam(required = false) Boolean featured,
+            @Parameter(description = "Cursor from the previous page; pass an empty value to start cursor pagination") @RequestParam(required = false) String cursor) {
 
         // Build filter map
         Map<String, Object> filters = new HashMap<>();
@@ -102,8 +103,24 @@ public class PostController extends AdminBaseController {
             filters.put("featured", featured);
         }
 
+        // Cursor mode: seek past the previous page and skip the count query
+        if (cursor != null) {
+            CursorPageDTO<PostSummaryDTO> posts = postService.getFilteredPostsByCursor(filters, cursor, size,
+                    sortBy, direction);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("posts", posts.getContent());
+            response.put("nextCursor", posts.getNextCursor());
+            response.put("hasNext", posts.isHasNext());
+
+            return ResponseEntity.ok(response);
+        }
+
+        // Create pageable
+        var pageable = PageableUtil.createPageRequest(page, size, sortBy, direction);
+
         // Get posts with filters
-        Page<PostDTO> posts = postService.getFilteredPosts(filters, pageable);
+        Page<PostSummaryDTO> posts = postService.getFilteredPosts(filters, pageable);
 
         // Build response
         Map<String, Object> response = new HashMap<>();
@@ -244,7 +261,7 @@ public class PostController extends AdminBaseController {
             @Parameter(description = "Sort direction (asc or desc)") @RequestParam(defaultValue = "desc") String direction) {
 
         var pageable = PageableUtil.createPageRequest(page, size, sortBy, direction);
-        Page<PostDTO> posts = postService.getPostsByCategory(categoryId, pageable);
+        Page<PostSummaryDTO> posts = postService.getPostsByCategory(categoryId, pageable);
 
         Map<String, Object> response = new HashMap<>();
         response.put("posts", posts.getContent());
@@ -274,7 +291,7 @@ public class PostController extends AdminBaseController {
             @Parameter(description = "Sort direction (asc or desc)") @RequestParam(defaultValue = "desc") String direction) {
 
         var pageable = PageableUtil.createPageRequest(page, size, sortBy, direction);
-        Page<PostDTO> posts = postService.searchPosts(query, pageable);
+        Page<PostSummaryDTO> posts = postService.searchPosts(query, pageable);
 
         Map<String, Object> response = new HashMap<>();
         response.put("posts", posts.getContent());
@@ -305,7 +322,7 @@ public class PostController extends AdminBaseController {
      * Get post revisions
      */
     @GetMapping("/{id}/revisions")
-    @Operation(summary = "Get revisions history for a post")
+    @Operation(summary = "Get revisions history for a post, without revision content")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved post revisions"),
             @ApiResponse(responseCode = "401", description = "Unauthorized"),
@@ -313,8 +330,36 @@ public class PostController extends AdminBaseController {
             @ApiResponse(responseCode = "404", description = "Post not found"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    public ResponseEntity<List<PostRevisionDTO>> getPostRevisions(@PathVariable UUID id) {
-        List<PostRevisionDTO> revisions = postService.getPostRevisions(id);
-        return ResponseEntity.ok(revisions);
+    public ResponseEntity<Map<String, Object>> getPostRevisions(
+            @PathVariable UUID id,
+            @Parameter(description = "Page number (zero-based)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Number of items per page") @RequestParam(defaultValue = "20") int size) {
+
+        Page<PostRevisionSummaryDTO> revisions = postService.getPostRevisions(id,
+                PageRequest.of(Math.max(0, page), PageableUtil.validatePageSize(size)));
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("revisions", revisions.getContent());
+        response.put("currentPage", revisions.getNumber());
+        response.put("totalItems", revisions.getTotalElements());
+        response.put("totalPages", revisions.getTotalPages());
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get a single post revision
+     */
+    @GetMapping("/{id}/revisions/{revisionNumber}")
+    @Operation(summary = "Get a single revision of a post with its content")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved post revision"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "404", description = "Revision not found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<PostRevisionDTO> getPostRevision(@PathVariable UUID id, @PathVariable int revisionNumber) {
+        return ResponseEntity.ok(postService.getPostRevision(id, revisionNumber));
     }
-}
\ No newline at end of file
+}
@@ -57,7 +57,7 @@ public class RoleController extends AdminBaseController {
          * @return Paginated list of roles
          */
         @GetMapping
-        @PreAuthorize("hasAuthority('role:read')")
+        @PreAuthorize("hasGrantedAuthority('role:read')")
         @Operation(summary = "Get all roles", description = "Get a paginated list of roles with search and filter options")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Successfully retrieved roles list"),
@@ -99,7 +99,7 @@ public class RoleController extends AdminBaseController {
          * @return Role details
          */
         @GetMapping("/{id}")
-        @PreAuthorize("hasAuthority('role:read')")
+        @PreAuthorize("hasGrantedAuthority('role:read')")
         @Operation(summary = "Get role by ID", description = "Get a role by its ID")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Successfully retrieved role"),
@@ -121,7 +121,7 @@ public class RoleController extends AdminBaseController {
          * @return Created role
          */
         @PostMapping
-        @PreAuthorize("hasAuthority('role:write')")
+        @PreAuthorize("hasGrantedAuthority('role:write')")
         @ResponseStatus(HttpStatus.CREATED)
         @Operation(summary = "Create new role", description = "Create a new role in the system")
         @ApiResponses(value = {
@@ -144,7 +144,7 @@ public class RoleController extends AdminBaseController {
          * @return Updated role
          */
         @PutMapping("/{id}")
-        @PreAuthorize("hasAuthority('role:write')")
+        @PreAuthorize("hasGrantedAuthority('role:write')")
         @Operation(summary = "Update role", description = "Update an existing role in the system")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Successfully updated role", content = @Content(mediaType = "application/json", schema = @Schema(implementation = RoleDTO.class))),
@@ -168,7 +168,7 @@ public class RoleController extends AdminBaseController {
          * @return Success message
          */
         @DeleteMapping("/{id}")
-        @PreAuthorize("hasAuthority('role:delete')")
+        @PreAuthorize("hasGrantedAuthority('role:delete')")
         @Operation(summary = "Delete role", description = "Delete an existing role in the system")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Successfully deleted role"),
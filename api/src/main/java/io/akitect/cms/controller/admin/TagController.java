@@ -3,6 +3,7 @@ package io.akitect.cms.controller.admin;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
@@ -79,7 +80,7 @@ public class TagController extends AdminBaseController {
 
     @GetMapping("/{id}")
     @Operation(summary = "Get tag by ID", description = "Returns a single tag by its ID")
-    public ResponseEntity<TagDTO> getTagById(@PathVariable String id) {
+    public ResponseEntity<TagDTO> getTagById(@PathVariable UUID id) {
         Tag tag = tagService.getTagById(id);
         return ResponseEntity.ok(TagDTO.fromEntity(tag));
     }
@@ -108,7 +109,7 @@ public class TagController extends AdminBaseController {
     @PutMapping("/{id}")
     @Operation(summary = "Update a tag", description = "Updates an existing tag with the provided information")
     public ResponseEntity<TagDTO> updateTag(
-            @PathVariable String id,
+            @PathVariable UUID id,
             @Valid @RequestBody TagUpdateDTO tagUpdateDTO) {
         Tag updatedTag = tagService.updateTag(id, tagUpdateDTO);
         return ResponseEntity.ok(TagDTO.fromEntity(updatedTag));
@@ -116,7 +117,7 @@ public class TagController extends AdminBaseController {
 
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete a tag", description = "Deletes a tag by its ID")
-    public ResponseEntity<Void> deleteTag(@PathVariable String id) {
+    public ResponseEntity<Void> deleteTag(@PathVariable UUID id) {
         tagService.deleteTag(id);
         return ResponseEntity.noContent().build();
     }
@@ -32,14 +32,17 @@ import org.springframework.web.bind.annotation.RestController;
 import io.akitect.cms.dto.MessageResponse;
 import io.akitect.cms.dto.UserCreateDTO;
 import io.akitect.cms.exception.UserNotFoundException;
+import io.akitect.cms.model.ActivityLog;
 import io.akitect.cms.model.Role;
 import io.akitect.cms.model.User;
 import io.akitect.cms.repository.ActivityLogRepository;
 import io.akitect.cms.repository.RoleRepository;
 import io.akitect.cms.repository.UserRepository;
 import io.akitect.cms.security.UserDetailsImpl;
+import io.akitect.cms.security.UserDetailsServiceImpl;
 import io.akitect.cms.service.AuthService;
 import io.akitect.cms.util.Constants;
+import io.akitect.cms.util.PageableUtil;
 import io.akitect.cms.util.enums.UserStatusEnum;
 import jakarta.validation.Valid;
 
@@ -52,15 +55,17 @@ public class UserController extends AdminBaseController {
     private final PasswordEncoder passwordEncoder;
     private final AuthService authService;
     private final ActivityLogRepository activityLogRepository;
+    private final UserDetailsServiceImpl userDetailsService;
 
     public UserController(UserRepository userRepository, RoleRepository roleRepository,
             PasswordEncoder passwordEncoder, AuthService authService,
-            ActivityLogRepository activityLogRepository) {
+            ActivityLogRepository activityLogRepository, UserDetailsServiceImpl userDetailsService) {
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
         this.passwordEncoder = passwordEncoder;
         this.authService = authService;
         this.activityLogRepository = activityLogRepository;
+        this.userDetailsService = userDetailsService;
     }
 
     // Define constants for repeated string literals
@@ -248,6 +253,7 @@ public class UserController extends AdminBaseController {
                     .body(MessageResponse.error("Error: User must have at least one role!"));
         }
 
+        String previousUsername = user.getUsername();
         user.setUsername(userUpdateDTO.getUsername());
         user.setEmail(userUpdateDTO.getEmail());
         user.setFullName(userUpdateDTO.getFullName());
@@ -268,16 +274,16 @@ public class UserController extends AdminBaseController {
         user.setRoles(roles);
 
         userRepository.save(user);
+        userDetailsService.evictAfterCommit(previousUsername, user.getUsername());
         return ResponseEntity.ok(convertUserToDTO(user));
     }
 
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void deleteUser(@PathVariable UUID id) {
-        if (!userRepository.existsById(id)) {
-            throw new RuntimeException(USER_NOT_FOUND);
-        }
+        User user = userRepository.findById(id).orElseThrow(() -> new RuntimeException(USER_NOT_FOUND));
         userRepository.deleteById(id);
+        userDetailsService.evictAfterCommit(user.getUsername());
     }
 
     @PutMapping("/{id}/lock")
@@ -286,6 +292,7 @@ public class UserController extends AdminBaseController {
         user.setStatus("LOCKED");
         user.setUpdatedAt(LocalDateTime.now());
         userRepository.save(user);
+        userDetailsService.evictAfterCommit(user.getUsername());
 
         // Revoke all active sessions for security
         int revokedSessions = authService.revokeAllUserSessions(id, "ACCOUNT_LOCKED");
@@ -303,6 +310,7 @@ public class UserController extends AdminBaseController {
         user.setStatus("ACTIVE");
         user.setUpdatedAt(LocalDateTime.now());
         userRepository.save(user);
+        userDetailsService.evictAfterCommit(user.getUsername());
         return ResponseEntity.ok(convertUserToDTO(user));
     }
 
@@ -312,6 +320,7 @@ public class UserController extends AdminBaseController {
         user.setPassword(passwordEncoder.encode(newPassword)); // Properly encode the password
         user.setUpdatedAt(LocalDateTime.now());
         userRepository.save(user);
+        userDetailsService.evictAfterCommit(user.getUsername());
 
         // Revoke all active sessions for security after password reset
         int revokedSessions = authService.revokeAllUserSessions(id, "PASSWORD_RESET");
@@ -332,6 +341,7 @@ public class UserController extends AdminBaseController {
         user.setSuperAdmin(!user.isSuperAdmin());
         user.setUpdatedAt(LocalDateTime.now());
         userRepository.save(user);
+        userDetailsService.evictAfterCommit(user.getUsername());
 
         Map<String, Object> response = new HashMap<>();
         response.put("id", user.getId());
@@ -386,10 +396,16 @@ public class UserController extends AdminBaseController {
     }
 
     @GetMapping("/{id}/activity-logs")
-    public ResponseEntity<?> getUserActivityLogs(@PathVariable UUID id) {
-        List<Map<String, Object>> activityLogs = activityLogRepository.findByUserOrderByCreatedAtDesc(
-                userRepository.findById(id).orElseThrow(() -> new RuntimeException(USER_NOT_FOUND)))
-                .stream()
+    public ResponseEntity<?> getUserActivityLogs(@PathVariable UUID id,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        if (!userRepository.existsById(id)) {
+            throw new RuntimeException(USER_NOT_FOUND);
+        }
+
+        Page<ActivityLog> logPage = activityLogRepository.findByUserIdOrderByCreatedAtDesc(id,
+                PageRequest.of(Math.max(0, page), PageableUtil.validatePageSize(size)));
+        List<Map<String, Object>> activityLogs = logPage.getContent().stream()
                 .map(log -> {
                     Map<String, Object> logDTO = new HashMap<>();
                     logDTO.put("id", log.getId());
@@ -402,7 +418,12 @@ public class UserController extends AdminBaseController {
                 })
                 .toList();
 
-        return ResponseEntity.ok(activityLogs);
+        Map<String, Object> response = new HashMap<>();
+        response.put("activityLogs", activityLogs);
+        response.put("currentPage", logPage.getNumber());
+        response.put("totalItems", logPage.getTotalElements());
+        response.put("totalPages", logPage.getTotalPages());
+        return ResponseEntity.ok(response);
     }
 
     @GetMapping("/auth/sessions/user/{id}")
@@ -1,31 +1,39 @@
 package io.akitect.cms.controller.web;
 
+import java.io.IOException;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
-import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import io.akitect.cms.dto.CursorPageDTO;
 import io.akitect.cms.dto.PostDTO;
-import io.akitect.cms.model.Post;
-import io.akitect.cms.repository.PostRepository;
+import io.akitect.cms.dto.PostSummaryDTO;
+import io.akitect.cms.repository.PostVersion;
+import io.akitect.cms.service.PostPayloadStore;
 import io.akitect.cms.service.PostService;
 import io.akitect.cms.util.Constants;
+import io.akitect.cms.util.ETagUtils;
 import io.akitect.cms.util.PageableUtil;
-import io.akitect.cms.util.SpecificationUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 
 @RestController
 @RequestMapping(Constants.PUBLIC_BASE_PATH + "/posts")
@@ -36,7 +44,7 @@ public class WebController {
     private PostService postService;
 
     @Autowired
-    private PostRepository postRepository;
+    private PostPayloadStore postPayloadStore;
 
     /**
      * Get published posts with pagination
@@ -52,10 +60,8 @@ public class WebController {
             @Parameter(description = "Number of items per page") @RequestParam(defaultValue = "10") int size,
             @Parameter(description = "Field to sort by") @RequestParam(defaultValue = "publishedAt") String sortBy,
             @Parameter(description = "Sort direction (asc or desc)") @RequestParam(defaultValue = "desc") String direction,
-            @Parameter(description = "Filter by category ID") @RequestParam(required = false) UUID categoryId) {
-
-        // Create pageable
-        var pageable = PageableUtil.createPageRequest(page, size, sortBy, direction);
+            @Parameter(description = "Filter by category ID") @RequestParam(required = false) UUID categoryId,
+            @Parameter(description = "Cursor from the previous page; pass an empty value to start cursor pagination") @RequestParam(required = false) String cursor) {
 
         // Build filter map - only published posts
         Map<String, Object> filters = new HashMap<>();
@@ -66,8 +72,24 @@ public class WebController {
             filters.put("categories.id", categoryId);
         }
 
+        // Cursor mode: seek past the previous page and skip the count query
+        if (cursor != null) {
+            CursorPageDTO<PostSummaryDTO> posts = postService.getFilteredPostsByCursor(filters, cursor, size,
+                    sortBy, direction);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("posts", posts.getContent());
+            response.put("nextCursor", posts.getNextCursor());
+            response.put("hasNext", posts.isHasNext());
+
+            return withValidators(response, posts.getContent(), posts.getNextCursor(), posts.isHasNext());
+        }
+
+        // Create pageable
+        var pageable = PageableUtil.createPageRequest(page, size, sortBy, direction);
+
         // Get posts with filters
-        Page<PostDTO> posts = postService.getFilteredPosts(filters, pageable);
+        Page<PostSummaryDTO> posts = postService.getFilteredPosts(filters, pageable);
 
         // Build response
         Map<String, Object> response = new HashMap<>();
@@ -76,7 +98,8 @@ public class WebController {
         response.put("totalItems", posts.getTotalElements());
         response.put("totalPages", posts.getTotalPages());
 
-        return ResponseEntity.ok(response);
+        return withValidators(response, posts.getContent(), posts.getNumber(), posts.getTotalElements(),
+                posts.getTotalPages());
     }
 
     /**
@@ -86,11 +109,35 @@ public class WebController {
     @Operation(summary = "Get a published post by slug")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved post"),
+            @ApiResponse(responseCode = "304", description = "Post not modified since the given ETag or date"),
             @ApiResponse(responseCode = "404", description = "Post not found"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    public ResponseEntity<PostDTO> getPublishedPostBySlug(@PathVariable String slug) {
+    public ResponseEntity<PostDTO> getPublishedPostBySlug(@PathVariable String slug, ServletWebRequest request)
+            throws IOException {
+        // Answer revalidations from the post version alone, without loading the content
+        PostVersion version = postService.getPostVersionBySlug(slug);
+        if (request.checkNotModified(ETagUtils.forPost(version.id(), version.updatedAt()),
+                ETagUtils.toEpochMilli(version.updatedAt()))) {
+            postService.incrementViewCount(version.id());
+            return null;
+        }
+
+        // Serve the pre-compressed payload of this version if there is one
+        if (postPayloadStore.serve(version.id(), version.updatedAt(), request.getRequest(), request.getResponse())) {
+            postService.incrementViewCount(version.id());
+            return null;
+        }
+
         PostDTO post = postService.getPostBySlug(slug);
+        postPayloadStore.store(post);
+
+        // The previous version may be served while the post is refreshed, describe the body actually sent
+        if (!Objects.equals(post.getUpdatedAt(), version.updatedAt())) {
+            HttpServletResponse response = request.getResponse();
+            response.setHeader(HttpHeaders.ETAG, ETagUtils.forPost(post.getId(), post.getUpdatedAt()));
+            response.setDateHeader(HttpHeaders.LAST_MODIFIED, ETagUtils.toEpochMilli(post.getUpdatedAt()));
+        }
 
         // Increment view count
         postService.incrementViewCount(post.getId());
@@ -98,6 +145,33 @@ public class WebController {
         return ResponseEntity.ok(post);
     }
 
+    /**
+     * Get published posts in a category section, including its subcategories
+     */
+    @GetMapping("/category/{categoryId}")
+    @Operation(summary = "Get published posts in a category and all of its subcategories")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved posts"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<Map<String, Object>> getPublishedPostsInCategory(
+            @Parameter(description = "Category ID") @PathVariable UUID categoryId,
+            @Parameter(description = "Page number (zero-based)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Number of items per page") @RequestParam(defaultValue = "10") int size) {
+
+        Page<PostSummaryDTO> posts = postService.getPublishedPostsInCategoryTree(categoryId,
+                PageRequest.of(Math.max(0, page), PageableUtil.validatePageSize(size)));
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("posts", posts.getContent());
+        response.put("currentPage", posts.getNumber());
+        response.put("totalItems", posts.getTotalElements());
+        response.put("totalPages", posts.getTotalPages());
+
+        return withValidators(response, posts.getContent(), posts.getNumber(), posts.getTotalElements(),
+                posts.getTotalPages());
+    }
+
     /**
      * Get featured published posts
      */
@@ -111,19 +185,13 @@ public class WebController {
             @Parameter(description = "Maximum number of posts to return") @RequestParam(defaultValue = "5") int limit) {
 
         var pageable = PageableUtil.createPageRequest(0, limit, "publishedAt", "desc");
-
-        // Build specification for featured AND published posts
-        Specification<Post> spec = SpecificationUtils.buildSpecification(Map.of(
-                "status", "PUBLISHED",
-                "featured", true));
-
-        var posts = postRepository.findAll(spec, pageable).map(postService::convertToDTO).getContent();
+        var posts = postService.getFeaturedPublishedPosts(pageable);
 
         Map<String, Object> response = new HashMap<>();
         response.put("posts", posts);
         response.put("count", posts.size());
 
-        return ResponseEntity.ok(response);
+        return withValidators(response, posts);
     }
 
     /**
@@ -141,20 +209,7 @@ public class WebController {
             @Parameter(description = "Number of items per page") @RequestParam(defaultValue = "10") int size) {
 
         var pageable = PageableUtil.createPageRequest(page, size, "publishedAt", "desc");
-
-        // Create specification to search only published posts
-        Specification<Post> spec = SpecificationUtils.buildSpecification(Map.of("status", "PUBLISHED"));
-
-        // Combine with search query
-        spec = spec.and((root, query1, criteriaBuilder) -> {
-            String searchTerm = "%" + query.toLowerCase() + "%";
-            return criteriaBuilder.or(
-                    criteriaBuilder.like(criteriaBuilder.lower(root.get("title")), searchTerm),
-                    criteriaBuilder.like(criteriaBuilder.lower(root.get("content")), searchTerm),
-                    criteriaBuilder.like(criteriaBuilder.lower(root.get("excerpt")), searchTerm));
-        });
-
-        Page<PostDTO> posts = postRepository.findAll(spec, pageable).map(postService::convertToDTO);
+        Page<PostSummaryDTO> posts = postService.searchPublishedPosts(query, pageable);
 
         Map<String, Object> response = new HashMap<>();
         response.put("posts", posts.getContent());
@@ -162,7 +217,8 @@ public class WebController {
         response.put("totalItems", posts.getTotalElements());
         response.put("totalPages", posts.getTotalPages());
 
-        return ResponseEntity.ok(response);
+        return withValidators(response, posts.getContent(), posts.getNumber(), posts.getTotalElements(),
+                posts.getTotalPages());
     }
 
     /**
@@ -185,6 +241,20 @@ public class WebController {
         response.put("posts", relatedPosts);
         response.put("count", relatedPosts.size());
 
-        return ResponseEntity.ok(response);
+        return withValidators(response, relatedPosts);
+    }
+
+    /**
+     * Attach list-level validators so unchanged pages are answered with 304
+     * without serializing the body
+     */
+    private ResponseEntity<Map<String, Object>> withValidators(Map<String, Object> response,
+            Collection<PostSummaryDTO> posts, Object... pageState) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().eTag(ETagUtils.forPosts(posts, pageState));
+        long lastModified = ETagUtils.lastModified(posts);
+        if (lastModified >= 0) {
+            builder.lastModified(lastModified);
+        }
+        return builder.body(response);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,19 @@
+package io.akitect.cms.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * One page of a keyset (cursor) listing. No total count is computed.
+ *
+ * @param <T> Item type
+ */
+@Data
+@AllArgsConstructor
+public class CursorPageDTO<T> {
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,49 @@
+package io.akitect.cms.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Revision metadata for the history listing. Unlike {@link PostRevisionDTO} it
+ * does not carry the content body.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Post revision metadata without content")
+public class PostRevisionSummaryDTO {
+
+    @Schema(description = "The unique identifier of the revision")
+    private UUID id;
+
+    @Schema(description = "The unique identifier of the post this revision belongs to")
+    private UUID postId;
+
+    @Schema(description = "The revision number")
+    private int revisionNumber;
+
+    @Schema(description = "The title of the post at this revision")
+    private String title;
+
+    @Schema(description = "The length of the content at this revision in characters")
+    private Integer contentLength;
+
+    @Schema(description = "The date and time when this revision was created")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "The ID of the user who created this revision")
+    private UUID createdById;
+
+    @Schema(description = "The user who created this revision")
+    private String createdByUsername;
+
+    @Schema(description = "The full name of the user who created this revision")
+    private String createdByFullName;
+}
@@ -0,0 +1,38 @@
+package io.akitect.cms.dto;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import lombok.Data;
+
+/**
+ * Lightweight post representation for listings. Unlike {@link PostDTO} it does
+ * not carry the content body or SEO fields.
+ */
+@Data
+public class PostSummaryDTO {
+    private UUID id;
+    private String title;
+    private String slug;
+    private String excerpt;
+    private String featuredImageUrl;
+    private String status;
+    private LocalDateTime publishedAt;
+    private boolean featured;
+    private int viewsCount;
+
+    private UUID authorId;
+    private String authorUsername;
+    private String authorFullName;
+
+    private Set<CategoryDTO> categories = new HashSet<>();
+    private Set<TagDTO> tags = new HashSet<>();
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // Highlighted match context, only set on search results
+    private String snippet;
+}
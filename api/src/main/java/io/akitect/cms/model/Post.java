@@ -48,7 +48,8 @@ public class Post extends BaseEntity {
     @Column(name = "allow_comments", nullable = false)
     private boolean allowComments = true;
 
-    @Column(name = "views_count", nullable = false)
+    // Maintained by PostViewCounter with incremental updates, never by entity saves
+    @Column(name = "views_count", nullable = false, updatable = false)
     private int viewsCount = 0;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -25,9 +25,22 @@ public class PostRevision {
     @Column(name = "title", length = 255, nullable = false)
     private String title;
 
-    @Column(name = "content", columnDefinition = "text", nullable = false)
+    // Full content on snapshot revisions, null on delta revisions
+    @Column(name = "content", columnDefinition = "text")
     private String content;
 
+    // Snapshot revision that contentDelta applies to, null on snapshot revisions
+    @Column(name = "base_revision_number")
+    private Integer baseRevisionNumber;
+
+    // TextDeltaUtils delta against the base revision's content
+    @Column(name = "content_delta")
+    private byte[] contentDelta;
+
+    // Length of the full content, so listings never need to restore it
+    @Column(name = "content_length")
+    private Integer contentLength;
+
     @Column(name = "excerpt", columnDefinition = "text")
     private String excerpt;
 
@@ -40,4 +53,8 @@ public class PostRevision {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "created_by", nullable = false)
     private User createdBy;
-}
\ No newline at end of file
+
+    public boolean isSnapshot() {
+        return baseRevisionNumber == null;
+    }
+}
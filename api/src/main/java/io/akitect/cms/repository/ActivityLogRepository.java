@@ -1,15 +1,28 @@
 package io.akitect.cms.repository;
 
-import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import io.akitect.cms.model.ActivityLog;
-import io.akitect.cms.model.User;
 
 @Repository
 public interface ActivityLogRepository extends JpaRepository<ActivityLog, UUID> {
-    List<ActivityLog> findByUserOrderByCreatedAtDesc(User user);
-}
\ No newline at end of file
+
+    /**
+     * Page through a user's activity, newest first. Served by the
+     * (user_id, created_at desc) index.
+     * 
+     * @param userId   User ID
+     * @param pageable Pagination information
+     * @return Page of activity logs
+     */
+    @Query(value = "SELECT a FROM ActivityLog a WHERE a.user.id = :userId ORDER BY a.createdAt DESC",
+            countQuery = "SELECT count(a) FROM ActivityLog a WHERE a.user.id = :userId")
+    Page<ActivityLog> findByUserIdOrderByCreatedAtDesc(@Param("userId") UUID userId, Pageable pageable);
+}
@@ -1,58 +1,156 @@
 package io.akitect.cms.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import io.akitect.cms.model.Post;
 import io.akitect.cms.model.User;
+import jakarta.persistence.QueryHint;
 
 @Repository
-public interface PostRepository extends JpaRepository<Post, UUID>, JpaSpecificationExecutor<Post> {
+public interface PostRepository extends JpaRepository<Post, UUID>, JpaSpecificationExecutor<Post>,
+        PostRepositoryCustom {
 
     Optional<Post> findBySlug(String slug);
 
+    /**
+     * Look up the version of a post without loading its content
+     * 
+     * @param slug Post slug
+     * @return Post ID and last modification time
+     */
+    @Query("SELECT new io.akitect.cms.repository.PostVersion(p.id, p.updatedAt) FROM Post p WHERE p.slug = :slug")
+    Optional<PostVersion> findVersionBySlug(@Param("slug") String slug);
+
+    /**
+     * Lock a post row until the current transaction ends
+     * 
+     * @param id Post ID
+     * @return The post ID, or empty if the post does not exist
+     */
+    @Query(value = "SELECT id FROM posts WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Optional<UUID> lockById(@Param("id") UUID id);
+
     Boolean existsBySlug(String slug);
 
     Page<Post> findByTitleContainingIgnoreCase(String title, Pageable pageable);
 
     Page<Post> findByAuthor(User author, Pageable pageable);
 
-    @Query("SELECT p FROM Post p WHERE p.featured = true")
-    List<Post> findFeaturedPosts(Pageable pageable);
-
-    @Query("SELECT p FROM Post p JOIN p.categories c WHERE c.id = :categoryId")
-    Page<Post> findByCategoryId(@Param("categoryId") UUID categoryId, Pageable pageable);
-
-    @Query("SELECT p FROM Post p WHERE " +
-            "LOWER(p.title) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-            "LOWER(p.content) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-            "LOWER(p.excerpt) LIKE LOWER(CONCAT('%', :query, '%'))")
-    Page<Post> search(@Param("query") String query, Pageable pageable);
+    @Query("SELECT p.id FROM Post p")
+    Page<UUID> findAllIds(Pageable pageable);
+
+    @Query("SELECT p.id FROM Post p WHERE p.featured = true")
+    List<UUID> findFeaturedPostIds(Pageable pageable);
+
+    @Query(value = "SELECT p.id FROM Post p JOIN p.categories c WHERE c.id = :categoryId",
+            countQuery = "SELECT count(p) FROM Post p JOIN p.categories c WHERE c.id = :categoryId")
+    Page<UUID> findIdsByCategoryId(@Param("categoryId") UUID categoryId, Pageable pageable);
+
+    /**
+     * Find published posts in a category or any of its descendants, newest
+     * first, through the category_closure table (see schema.sql)
+     * 
+     * @param categoryId Root category ID
+     * @param pageable   Pagination information (sort is ignored)
+     * @return Page of published post IDs
+     */
+    @Query(value = "SELECT p.id FROM posts p WHERE p.status = 'PUBLISHED' AND EXISTS ("
+            + "SELECT 1 FROM category_closure cc JOIN post_categories pc ON pc.category_id = cc.descendant_id "
+            + "WHERE cc.ancestor_id = :categoryId AND pc.post_id = p.id) "
+            + "ORDER BY p.published_at DESC, p.id DESC",
+            countQuery = "SELECT count(*) FROM posts p WHERE p.status = 'PUBLISHED' AND EXISTS ("
+                    + "SELECT 1 FROM category_closure cc JOIN post_categories pc ON pc.category_id = cc.descendant_id "
+                    + "WHERE cc.ancestor_id = :categoryId AND pc.post_id = p.id)",
+            nativeQuery = true)
+    Page<UUID> findPublishedIdsInCategorySubtree(@Param("categoryId") UUID categoryId, Pageable pageable);
+
+    /**
+     * Stream the searchable fields of every published post, for building the
+     * in-memory search index. Must be consumed inside a transaction.
+     * 
+     * @return Rows of [id, title, excerpt, content]
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT p.id, p.title, p.excerpt, p.content FROM Post p WHERE p.status = 'PUBLISHED'")
+    Stream<Object[]> streamPublishedForIndexing();
+
+    /**
+     * Ranked full-text search over the search_vector column (see schema.sql).
+     * Snippets are only computed for the rows of the requested page.
+     * 
+     * @param tsQuery tsquery string, see SearchUtils.toPrefixTsQuery
+     * @param status  Status to restrict to, or null for all posts
+     * @param limit   Page size
+     * @param offset  Row offset
+     * @return Matching post ids with rank and highlighted snippet, best first
+     */
+    @Query(value = "SELECT hit.id AS id, hit.rank AS rank, " +
+            "ts_headline('simple', regexp_replace(hit.content, '<[^>]+>', ' ', 'g'), to_tsquery('simple', :tsQuery), " +
+            "'StartSel=<mark>, StopSel=</mark>, MaxWords=35, MinWords=15, MaxFragments=2') AS snippet " +
+            "FROM (SELECT p.id, p.content, p.published_at, " +
+            "CAST(ts_rank(p.search_vector, to_tsquery('simple', :tsQuery)) AS double precision) AS rank " +
+            "FROM posts p " +
+            "WHERE p.search_vector @@ to_tsquery('simple', :tsQuery) " +
+            "AND (CAST(:status AS text) IS NULL OR p.status = CAST(:status AS text)) " +
+            "ORDER BY rank DESC, p.published_at DESC NULLS LAST, p.id " +
+            "LIMIT :limit OFFSET :offset) hit " +
+            "ORDER BY hit.rank DESC, hit.published_at DESC NULLS LAST, hit.id", nativeQuery = true)
+    List<PostSearchHit> searchRanked(@Param("tsQuery") String tsQuery, @Param("status") String status,
+            @Param("limit") int limit, @Param("offset") long offset);
+
+    @Query(value = "SELECT COUNT(*) FROM posts p " +
+            "WHERE p.search_vector @@ to_tsquery('simple', :tsQuery) " +
+            "AND (CAST(:status AS text) IS NULL OR p.status = CAST(:status AS text))", nativeQuery = true)
+    long countSearchMatches(@Param("tsQuery") String tsQuery, @Param("status") String status);
 
     @Query("SELECT p FROM Post p WHERE p.status = 'PUBLISHED'")
     Page<Post> findPublishedPosts(Pageable pageable);
 
-    @Query("SELECT p FROM Post p WHERE p.status = 'PUBLISHED' AND p.featured = true")
-    List<Post> findFeaturedPublishedPosts(Pageable pageable);
-
-    @Query("SELECT p FROM Post p " +
-            "JOIN p.categories c " +
-            "WHERE p.status = 'PUBLISHED' AND p.id != :postId AND c.id IN " +
-            "(SELECT c2.id FROM Post p2 JOIN p2.categories c2 WHERE p2.id = :postId)")
-    List<Post> findRelatedPosts(@Param("postId") UUID postId, Pageable pageable);
-
-    @Query("SELECT COUNT(p) FROM Post p WHERE p.status = 'PUBLISHED'")
-    long countPublishedPosts();
-
-    @Query("SELECT COUNT(p) FROM Post p WHERE p.status = 'DRAFT'")
-    long countDraftPosts();
+    @Query("SELECT p.id FROM Post p WHERE p.status = 'PUBLISHED' AND p.featured = true")
+    List<UUID> findFeaturedPublishedPostIds(Pageable pageable);
+
+    /**
+     * Load the listing columns of a page of posts and their authors, without
+     * the content body and without initializing the Post and User entities
+     * (and the user's eager roles and permissions)
+     * 
+     * @param postIds IDs of the posts on the page
+     * @return Rows in no particular order
+     */
+    @Query("SELECT new io.akitect.cms.repository.PostSummaryRow(p.id, p.title, p.slug, p.excerpt, "
+            + "p.featuredImageUrl, p.status, p.publishedAt, p.featured, p.viewsCount, p.createdAt, p.updatedAt, "
+            + "a.id, a.username, a.fullName) FROM Post p LEFT JOIN p.author a WHERE p.id IN :postIds")
+    List<PostSummaryRow> findSummaryRowsByIds(@Param("postIds") Collection<UUID> postIds);
+
+    /**
+     * Load categories for a page of posts in one round trip
+     * 
+     * @param postIds IDs of the posts on the page
+     * @return Rows of [postId, Category]
+     */
+    @Query("SELECT p.id, c FROM Post p JOIN p.categories c WHERE p.id IN :postIds")
+    List<Object[]> findCategoriesByPostIds(@Param("postIds") Collection<UUID> postIds);
+
+    /**
+     * Load tags for a page of posts in one round trip
+     * 
+     * @param postIds IDs of the posts on the page
+     * @return Rows of [postId, Tag]
+     */
+    @Query("SELECT p.id, t FROM Post p JOIN p.tags t WHERE p.id IN :postIds")
+    List<Object[]> findTagsByPostIds(@Param("postIds") Collection<UUID> postIds);
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+package io.akitect.cms.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import io.akitect.cms.model.Post;
+
+/**
+ * Specification queries that select post IDs only, so listings can load
+ * their columns separately without the content body
+ */
+public interface PostRepositoryCustom {
+
+    /**
+     * Find a page of IDs of posts matching a specification
+     *
+     * @param spec     Filter, may be null
+     * @param pageable Pagination and sort information
+     * @return Page of post IDs in sort order
+     */
+    Page<UUID> findIds(Specification<Post> spec, Pageable pageable);
+
+    /**
+     * Find the first IDs of posts matching a specification, without counting
+     *
+     * @param spec  Filter, may be null
+     * @param sort  Sort order
+     * @param limit Maximum number of IDs
+     * @return Post IDs in sort order
+     */
+    List<UUID> findIds(Specification<Post> spec, Sort sort, int limit);
+}
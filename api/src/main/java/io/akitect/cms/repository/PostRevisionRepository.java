@@ -0,0 +1,51 @@
+package io.akitect.cms.repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import io.akitect.cms.dto.PostRevisionSummaryDTO;
+import io.akitect.cms.model.PostRevision;
+
+@Repository
+public interface PostRevisionRepository extends JpaRepository<PostRevision, UUID> {
+
+    /**
+     * Highest revision number of a post
+     *
+     * @param postId Post ID
+     * @return Highest revision number, or 0 if the post has no revisions
+     */
+    @Query("SELECT COALESCE(MAX(r.revisionNumber), 0) FROM PostRevision r WHERE r.post.id = :postId")
+    int findMaxRevisionNumber(@Param("postId") UUID postId);
+
+    /**
+     * Most recent snapshot revision of a post
+     *
+     * @param postId Post ID
+     * @return Latest revision that stores its full content
+     */
+    Optional<PostRevision> findFirstByPostIdAndBaseRevisionNumberIsNullOrderByRevisionNumberDesc(UUID postId);
+
+    Optional<PostRevision> findByPostIdAndRevisionNumber(UUID postId, int revisionNumber);
+
+    /**
+     * Page through the revision history of a post, newest first, without
+     * loading any content. Served by the (post_id, revision_number desc) index.
+     *
+     * @param postId   Post ID
+     * @param pageable Pagination information
+     * @return Page of revision metadata
+     */
+    @Query(value = "SELECT new io.akitect.cms.dto.PostRevisionSummaryDTO(r.id, r.post.id, r.revisionNumber, r.title, "
+            + "r.contentLength, r.createdAt, u.id, u.username, u.fullName) "
+            + "FROM PostRevision r LEFT JOIN r.createdBy u WHERE r.post.id = :postId ORDER BY r.revisionNumber DESC",
+            countQuery = "SELECT count(r) FROM PostRevision r WHERE r.post.id = :postId")
+    Page<PostRevisionSummaryDTO> findSummariesByPostId(@Param("postId") UUID postId, Pageable pageable);
+}
@@ -0,0 +1,15 @@
+package io.akitect.cms.repository;
+
+import java.util.UUID;
+
+/**
+ * Projection of a ranked full-text search match on posts
+ */
+public interface PostSearchHit {
+
+    UUID getId();
+
+    Double getRank();
+
+    String getSnippet();
+}
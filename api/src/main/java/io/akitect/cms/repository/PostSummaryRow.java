@@ -0,0 +1,27 @@
+package io.akitect.cms.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Listing columns of a post and its author, loaded without the content body
+ *
+ * @param id               Post ID
+ * @param title            Title
+ * @param slug             Slug
+ * @param excerpt          Excerpt
+ * @param featuredImageUrl Featured image URL
+ * @param status           Status
+ * @param publishedAt      Publication time
+ * @param featured         Whether the post is featured
+ * @param viewsCount       Persisted view count
+ * @param createdAt        Creation time
+ * @param updatedAt        Last modification time
+ * @param authorId         Author ID
+ * @param authorUsername   Author username
+ * @param authorFullName   Author full name
+ */
+public record PostSummaryRow(UUID id, String title, String slug, String excerpt, String featuredImageUrl,
+        String status, LocalDateTime publishedAt, boolean featured, int viewsCount, LocalDateTime createdAt,
+        LocalDateTime updatedAt, UUID authorId, String authorUsername, String authorFullName) {
+}
@@ -0,0 +1,14 @@
+package io.akitect.cms.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Identity and last modification time of a post, enough to answer
+ * conditional requests without loading the post itself
+ *
+ * @param id        Post ID
+ * @param updatedAt Last modification time
+ */
+public record PostVersion(UUID id, LocalDateTime updatedAt) {
+}
@@ -2,6 +2,7 @@ package io.akitect.cms.repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -13,7 +14,7 @@ import org.springframework.stereotype.Repository;
 import io.akitect.cms.model.Tag;
 
 @Repository
-public interface TagRepository extends JpaRepository<Tag, String> {
+public interface TagRepository extends JpaRepository<Tag, UUID> {
 
     Optional<Tag> findBySlug(String slug);
 
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import io.akitect.cms.model.User;
 import io.akitect.cms.model.UserSession;
@@ -31,7 +32,29 @@ public interface UserSessionRepository extends JpaRepository<UserSession, UUID>
     @Query("UPDATE UserSession s SET s.active = false, s.revokedAt = :now WHERE s.user.id = :userId AND s.id != :currentSessionId")
     void revokeAllOtherSessions(UUID userId, UUID currentSessionId, LocalDateTime now);
 
+    /**
+     * Revoke every active session of a user in one statement
+     * 
+     * @param userId User ID
+     * @param now    Revocation time
+     * @return IDs of the revoked sessions
+     */
+    @Transactional
+    @Query(value = "UPDATE user_sessions SET is_active = false, revoked_at = :now "
+            + "WHERE user_id = :userId AND is_active = true AND revoked_at IS NULL RETURNING id", nativeQuery = true)
+    List<UUID> revokeAllActiveSessions(UUID userId, LocalDateTime now);
+
+    /**
+     * Delete up to {@code limit} sessions that expired or were revoked before
+     * the cutoff
+     * 
+     * @param cutoff Sessions that ended before this time are deleted
+     * @param limit  Maximum number of rows to delete
+     * @return Number of deleted rows
+     */
     @Modifying
-    @Query("UPDATE UserSession s SET s.lastActivity = :now WHERE s.token = :token")
-    void updateLastActivity(String token, LocalDateTime now);
-}
\ No newline at end of file
+    @Transactional
+    @Query(value = "DELETE FROM user_sessions WHERE id IN (SELECT id FROM user_sessions "
+            + "WHERE expires_at < :cutoff OR revoked_at < :cutoff LIMIT :limit)", nativeQuery = true)
+    int deleteEndedSessions(LocalDateTime cutoff, int limit);
+}
@@ -1,6 +1,7 @@
 package io.akitect.cms.security;
 
 import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
 import org.springframework.security.access.expression.method.MethodSecurityExpressionOperations;
 import org.springframework.security.authentication.AuthenticationTrustResolver;
@@ -11,10 +12,18 @@ public class CustomMethodSecurityExpressionHandler extends DefaultMethodSecurity
 
     private AuthenticationTrustResolver trustResolver = new AuthenticationTrustResolverImpl();
 
+    // Resolved lazily since the registry depends on JPA repositories
+    private final ObjectProvider<PermissionRegistry> permissionRegistry;
+
+    public CustomMethodSecurityExpressionHandler(ObjectProvider<PermissionRegistry> permissionRegistry) {
+        this.permissionRegistry = permissionRegistry;
+    }
+
     @Override
     protected MethodSecurityExpressionOperations createSecurityExpressionRoot(Authentication authentication,
             MethodInvocation invocation) {
-        CustomMethodSecurityExpressionRoot root = new CustomMethodSecurityExpressionRoot(authentication);
+        CustomMethodSecurityExpressionRoot root = new CustomMethodSecurityExpressionRoot(authentication,
+                permissionRegistry.getObject());
         root.setPermissionEvaluator(getPermissionEvaluator());
         root.setTrustResolver(this.trustResolver);
         root.setRoleHierarchy(getRoleHierarchy());
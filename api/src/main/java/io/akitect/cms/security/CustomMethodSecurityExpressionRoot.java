@@ -10,9 +10,11 @@ public class CustomMethodSecurityExpressionRoot extends SecurityExpressionRoot
 
     private Object filterObject;
     private Object returnObject;
+    private final PermissionRegistry permissionRegistry;
 
-    public CustomMethodSecurityExpressionRoot(Authentication authentication) {
+    public CustomMethodSecurityExpressionRoot(Authentication authentication, PermissionRegistry permissionRegistry) {
         super(authentication);
+        this.permissionRegistry = permissionRegistry;
     }
 
     /**
@@ -39,6 +41,29 @@ public class CustomMethodSecurityExpressionRoot extends SecurityExpressionRoot
         }
 
         // Otherwise, check the specific permission
+        return hasGrantedAuthority(permission);
+    }
+
+    /**
+     * Check if the current user holds the specified authority. Same semantics
+     * as {@code hasAuthority}, without building an authority set per call
+     * 
+     * @param permission The permission to check
+     * @return true if user holds the authority
+     */
+    public boolean hasGrantedAuthority(String permission) {
+        Authentication authentication = getAuthentication();
+
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return false;
+        }
+
+        // Test the principal's precomputed permission bits
+        if (authentication.getPrincipal() instanceof UserDetailsImpl) {
+            return permissionRegistry.hasPermission((UserDetailsImpl) authentication.getPrincipal(), permission);
+        }
+
+        // Other principal types: scan the authorities
         for (GrantedAuthority grantedAuth : authentication.getAuthorities()) {
             if (grantedAuth.getAuthority().equals(permission)) {
                 return true;
@@ -1,9 +1,12 @@
 package io.akitect.cms.security;
 
 import java.nio.charset.StandardCharsets;
-import java.time.LocalDateTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import javax.crypto.SecretKey;
 
@@ -12,15 +15,22 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
 import io.akitect.cms.model.User;
-import io.akitect.cms.repository.UserSessionRepository;
+import io.akitect.cms.service.SessionActivityTracker;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 
 @Component
@@ -33,8 +43,45 @@ public class JwtUtils {
     @Value("${akitect.cms.jwt.expiration:86400000}")
     private int jwtExpirationMs;
 
+    // Maximum number of verified tokens kept in the validation cache
+    @Value("${akitect.cms.jwt.validation-cache-size:10000}")
+    private int validationCacheSize;
+
     @Autowired
-    private UserSessionRepository userSessionRepository;
+    private SessionActivityTracker sessionActivityTracker;
+
+    private SecretKey signingKey;
+
+    private JwtParser jwtParser;
+
+    // SHA-256 digest of a verified token -> its claims, each entry expiring with the token
+    private Cache<String, Claims> verifiedTokens;
+
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(validationCacheSize)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String key, Claims claims, long currentTime) {
+                        long remainingMs = claims.getExpiration().getTime() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMs, 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
 
     // Add getter for JWT expiration
     public int getJwtExpirationMs() {
@@ -70,55 +117,75 @@ public class JwtUtils {
     }
 
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        return signingKey;
+    }
+
+    /**
+     * Get the claims of a token, verifying its signature and expiry unless it
+     * was already verified and is still cached.
+     *
+     * @param token JWT token
+     * @return Verified claims
+     * @throws io.jsonwebtoken.JwtException if the token is invalid or expired
+     */
+    private Claims parseClaims(String token) {
+        String digest = digest(token);
+        Claims claims = verifiedTokens.getIfPresent(digest);
+        if (claims == null) {
+            claims = jwtParser.parseClaimsJws(token).getBody();
+            if (claims.getExpiration() != null) {
+                verifiedTokens.put(digest, claims);
+            }
+        }
+        return claims;
+    }
+
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 
     public String getUserNameFromJwtToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return parseClaims(token).getSubject();
     }
 
     public UUID getUserIdFromJwtToken(String token) {
-        String userIdStr = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .get("userId", String.class);
+        String userIdStr = parseClaims(token).get("userId", String.class);
 
         return UUID.fromString(userIdStr);
     }
 
     public boolean isSuperAdminFromJwtToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .get("superAdmin", Boolean.class);
+        return parseClaims(token).get("superAdmin", Boolean.class);
     }
 
     public String getSessionIdFromJwtToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .get("sessionId", String.class);
+        return parseClaims(token).get("sessionId", String.class);
     }
 
     public boolean validateJwtToken(String authToken) {
+        return getValidatedClaims(authToken) != null;
+    }
+
+    /**
+     * Validate a token and return its claims, so callers need not parse it
+     * again for the username or other claims.
+     *
+     * @param authToken JWT token
+     * @return Verified claims, or null if the token is invalid
+     */
+    public Claims getValidatedClaims(String authToken) {
         try {
-            Jwts.parserBuilder().setSigningKey(getSigningKey()).build().parseClaimsJws(authToken);
+            Claims claims = parseClaims(authToken);
 
             // Check if token is associated with active session
             updateTokenActivity(authToken);
 
-            return true;
+            return claims;
         } catch (SignatureException e) {
             log.error("Invalid JWT signature: {}", e.getMessage());
         } catch (MalformedJwtException e) {
@@ -132,14 +199,10 @@ public class JwtUtils {
         } catch (Exception e) {
             log.error("JWT validation error: {}", e.getMessage());
         }
-        return false;
+        return null;
     }
 
     private void updateTokenActivity(String token) {
-        try {
-            userSessionRepository.updateLastActivity(token, LocalDateTime.now());
-        } catch (Exception e) {
-            log.warn("Failed to update token activity: {}", e.getMessage());
-        }
+        sessionActivityTracker.recordActivity(token);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,113 @@
+package io.akitect.cms.security;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import io.akitect.cms.config.DatabaseInitializer;
+import io.akitect.cms.model.Permission;
+import io.akitect.cms.repository.PermissionRepository;
+import io.akitect.cms.util.TransactionUtils;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Dense registry of permission names to bit indexes.
+ *
+ * Each principal lazily gets a {@link PermissionBits} set over the current
+ * registry, so an authority check is a map lookup and a bit test. The
+ * registry is seeded with the default permissions, loaded from the
+ * permissions table at startup and rebuilt when permissions change; a rebuild
+ * bumps the generation so stale principal bitsets are recomputed on next use.
+ */
+@Component
+@Slf4j
+public class PermissionRegistry {
+
+    /**
+     * Permission bitset of a principal, valid for one registry generation
+     */
+    public record PermissionBits(int generation, BitSet bits) {
+    }
+
+    private record Snapshot(int generation, Map<String, Integer> indexByName) {
+    }
+
+    @Autowired
+    private PermissionRepository permissionRepository;
+
+    private volatile Snapshot snapshot = createSnapshot(0, DatabaseInitializer.DEFAULT_PERMISSIONS);
+
+    /**
+     * Rebuild the registry from the permissions table
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Collection<String> names = new TreeSet<>(DatabaseInitializer.DEFAULT_PERMISSIONS);
+        permissionRepository.findAll().stream().map(Permission::getName).forEach(names::add);
+
+        synchronized (this) {
+            snapshot = createSnapshot(snapshot.generation() + 1, names);
+        }
+        log.debug("Permission registry rebuilt with {} permissions", names.size());
+    }
+
+    /**
+     * Rebuild the registry once the current transaction commits
+     */
+    public void rebuildAfterCommit() {
+        TransactionUtils.afterCommit(this::rebuild);
+    }
+
+    /**
+     * Check whether a principal holds a permission, computing its bitset on
+     * first use or after a registry rebuild
+     *
+     * @param userDetails Principal
+     * @param permission  Permission name
+     * @return true if the principal holds the permission
+     */
+    public boolean hasPermission(UserDetailsImpl userDetails, String permission) {
+        Snapshot current = snapshot;
+        Integer index = current.indexByName().get(permission);
+        if (index == null) {
+            // Not registered yet (e.g. before a pending rebuild): scan the authorities
+            return userDetails.getAuthorities().stream()
+                    .anyMatch(authority -> permission.equals(authority.getAuthority()));
+        }
+
+        PermissionBits permissionBits = userDetails.getPermissionBits();
+        if (permissionBits == null || permissionBits.generation() != current.generation()) {
+            permissionBits = toBits(current, userDetails.getAuthorities());
+            userDetails.setPermissionBits(permissionBits);
+        }
+
+        return permissionBits.bits().get(index);
+    }
+
+    private static PermissionBits toBits(Snapshot snapshot, Collection<? extends GrantedAuthority> authorities) {
+        BitSet bits = new BitSet(snapshot.indexByName().size());
+        for (GrantedAuthority authority : authorities) {
+            Integer index = snapshot.indexByName().get(authority.getAuthority());
+            if (index != null) {
+                bits.set(index);
+            }
+        }
+        return new PermissionBits(snapshot.generation(), bits);
+    }
+
+    private static Snapshot createSnapshot(int generation, Collection<String> names) {
+        Map<String, Integer> indexByName = new HashMap<>();
+        for (String name : new TreeSet<>(names)) {
+            indexByName.put(name, indexByName.size());
+        }
+        return new Snapshot(generation, Map.copyOf(indexByName));
+    }
+}
@@ -4,7 +4,9 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.akitect.cms.model.User;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -34,6 +36,12 @@ public class UserDetailsImpl implements UserDetails {
 
     private Collection<? extends GrantedAuthority> authorities;
 
+    // Computed by PermissionRegistry on the first permission check
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private transient volatile PermissionRegistry.PermissionBits permissionBits;
+
     public static UserDetailsImpl build(User user) {
         List<GrantedAuthority> authorities = user.getRoles().stream()
                 .flatMap(role -> role.getPermissions().stream())
@@ -47,6 +55,9 @@ public class UserDetailsImpl implements UserDetails {
 
         authorities.addAll(roleAuthorities);
 
+        // Snapshots are shared through the principal cache, so keep them read-only
+        authorities = List.copyOf(authorities);
+
         return new UserDetailsImpl(
                 user.getId(),
                 user.getUsername(),
@@ -55,7 +66,8 @@ public class UserDetailsImpl implements UserDetails {
                 user.getAvatarUrl(),
                 user.isSuperAdmin(),
                 user.getPassword(),
-                authorities);
+                authorities,
+                null);
     }
 
     @Override
@@ -2,25 +2,77 @@ package io.akitect.cms.security;
 
 import io.akitect.cms.model.User;
 import io.akitect.cms.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import io.akitect.cms.util.TransactionUtils;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Loads principals by username. Built {@link UserDetailsImpl} snapshots are
+ * cached so authenticated requests do not reload the user, role and
+ * permission graph; callers that change a user's credentials, status, roles
+ * or role permissions must evict the affected entries.
+ */
 @Service
-@RequiredArgsConstructor
 public class UserDetailsServiceImpl implements UserDetailsService {
 
+    public static final String USER_DETAILS_CACHE = "userDetails";
+
     private final UserRepository userRepository;
+    private final Cache userDetailsCache;
+
+    public UserDetailsServiceImpl(UserRepository userRepository, CacheManager cacheManager) {
+        this.userRepository = userRepository;
+        this.userDetailsCache = cacheManager.getCache(USER_DETAILS_CACHE);
+    }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        UserDetailsImpl cached = userDetailsCache.get(username, UserDetailsImpl.class);
+        if (cached != null) {
+            return cached;
+        }
+
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User Not Found with username: " + username));
 
-        return UserDetailsImpl.build(user);
+        UserDetailsImpl userDetails = UserDetailsImpl.build(user);
+        userDetailsCache.put(username, userDetails);
+        return userDetails;
+    }
+
+    /**
+     * Evict cached principals once the current transaction commits
+     *
+     * @param usernames Usernames to evict
+     */
+    public void evictAfterCommit(String... usernames) {
+        evictAfterCommit(List.of(usernames));
+    }
+
+    /**
+     * Evict cached principals once the current transaction commits
+     *
+     * @param usernames Usernames to evict
+     */
+    public void evictAfterCommit(Collection<String> usernames) {
+        List<String> snapshot = List.copyOf(usernames);
+        TransactionUtils.afterCommit(() -> snapshot.forEach(userDetailsCache::evict));
+    }
+
+    /**
+     * Evict every cached principal once the current transaction commits, for
+     * changes that may affect any user such as permission renames
+     */
+    public void evictAllAfterCommit() {
+        TransactionUtils.afterCommit(userDetailsCache::clear);
     }
-}
\ No newline at end of file
+}
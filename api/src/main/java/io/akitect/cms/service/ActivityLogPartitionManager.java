@@ -0,0 +1,233 @@
+package io.akitect.cms.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Maintains monthly range partitions of activity_logs on created_at.
+ *
+ * At startup a plain activity_logs table created by Hibernate is swapped for a
+ * partitioned table. The swap is a short transaction; the existing rows stay
+ * in activity_logs_legacy and are moved over in small batches in the
+ * background, so startup and audit writes are not blocked for a full copy.
+ * Until the move completes, queries do not see the unmoved rows. Changes to
+ * the partitions take a transaction-level advisory lock, so instances that
+ * start together do not convert twice. Partitions for the coming months
+ * are created ahead of time, with a default partition as a safety net. Rows
+ * that landed in the default partition are moved into their month's partition
+ * when it is created. If a retention period is configured, partitions older
+ * than it are dropped whole instead of deleting rows; by default nothing is
+ * dropped.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@Slf4j
+public class ActivityLogPartitionManager {
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final String PARTITION_PREFIX = "activity_logs_p";
+    private static final String DEFAULT_PARTITION = PARTITION_PREFIX + "default";
+    private static final String LEGACY_TABLE = "activity_logs_legacy";
+
+    // Number of future months to keep partitions for
+    private static final int MONTHS_AHEAD = 2;
+
+    // Months of activity logs to keep, 0 to keep everything
+    @Value("${akitect.cms.activity-log.retention-months:0}")
+    private int retentionMonths;
+
+    // Legacy rows moved per batch after a conversion
+    @Value("${akitect.cms.activity-log.migration-batch-size:5000}")
+    private int migrationBatchSize;
+
+    // Set while a converted table still has rows in the legacy table
+    private volatile boolean legacyRowsPending;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PostConstruct
+    public void initialize() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            lockPartitioning();
+            if (!isPartitioned()) {
+                convertToPartitioned();
+            }
+            createUpcomingPartitions();
+        });
+        legacyRowsPending = hasLegacyTable();
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_activity_logs_user_created "
+                + "ON activity_logs (user_id, created_at DESC)");
+    }
+
+    /**
+     * Create partitions for the current and upcoming months and drop the ones
+     * past the retention period
+     */
+    @Scheduled(cron = "${akitect.cms.activity-log.maintenance-cron:0 0 3 * * *}")
+    public void maintain() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            lockPartitioning();
+            createUpcomingPartitions();
+            dropExpiredPartitions();
+        });
+    }
+
+    /**
+     * Move one batch of rows left over from the conversion into the
+     * partitioned table, dropping the legacy table once it is empty
+     */
+    @Scheduled(fixedDelayString = "${akitect.cms.activity-log.migration-interval-ms:1000}")
+    public void migrateLegacyRows() {
+        if (!legacyRowsPending) {
+            return;
+        }
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            if (!hasLegacyTable()) {
+                legacyRowsPending = false;
+                return;
+            }
+
+            // Rows locked by another instance are left to it
+            int moved = jdbcTemplate.update("WITH moved AS (DELETE FROM " + LEGACY_TABLE
+                    + " WHERE ctid IN (SELECT ctid FROM " + LEGACY_TABLE + " LIMIT ? FOR UPDATE SKIP LOCKED) "
+                    + "RETURNING *) INSERT INTO activity_logs SELECT * FROM moved", migrationBatchSize);
+            if (moved > 0) {
+                log.debug("Moved {} legacy activity log rows", moved);
+                return;
+            }
+
+            lockPartitioning();
+            Boolean empty = jdbcTemplate.queryForObject(
+                    "SELECT NOT EXISTS (SELECT 1 FROM " + LEGACY_TABLE + ")", Boolean.class);
+            if (Boolean.TRUE.equals(empty)) {
+                jdbcTemplate.execute("DROP TABLE IF EXISTS " + LEGACY_TABLE);
+                legacyRowsPending = false;
+                log.info("Legacy activity log rows migrated, {} dropped", LEGACY_TABLE);
+            }
+        });
+    }
+
+    /**
+     * Serialize partition changes across instances for the current transaction
+     */
+    private void lockPartitioning() {
+        jdbcTemplate.execute("SELECT pg_advisory_xact_lock(hashtext('activity_logs_partitioning'))");
+    }
+
+    private boolean hasLegacyTable() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT to_regclass('" + LEGACY_TABLE + "') IS NOT NULL", Boolean.class));
+    }
+
+    private boolean isPartitioned() {
+        List<String> kinds = jdbcTemplate.queryForList(
+                "SELECT relkind::text FROM pg_class WHERE oid = to_regclass('activity_logs')", String.class);
+        return kinds.contains("p");
+    }
+
+    private void convertToPartitioned() {
+        log.info("Converting activity_logs to a partitioned table...");
+
+        // Only the swap runs here; the rows are moved in batches by migrateLegacyRows
+        jdbcTemplate.execute("ALTER TABLE activity_logs RENAME TO " + LEGACY_TABLE);
+        jdbcTemplate.execute("CREATE TABLE activity_logs (LIKE " + LEGACY_TABLE + " INCLUDING DEFAULTS) "
+                + "PARTITION BY RANGE (created_at)");
+        // The partition key must be part of the primary key
+        jdbcTemplate.execute("ALTER TABLE activity_logs ADD PRIMARY KEY (id, created_at)");
+        jdbcTemplate.execute("ALTER TABLE activity_logs ADD CONSTRAINT fk_activity_logs_user "
+                + "FOREIGN KEY (user_id) REFERENCES users (id)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + DEFAULT_PARTITION + " "
+                + "PARTITION OF activity_logs DEFAULT");
+
+        // Cover every month that has rows so none land in the default partition
+        LocalDate oldest = jdbcTemplate.queryForObject(
+                "SELECT CAST(min(created_at) AS date) FROM " + LEGACY_TABLE, LocalDate.class);
+        LocalDate newest = jdbcTemplate.queryForObject(
+                "SELECT CAST(max(created_at) AS date) FROM " + LEGACY_TABLE, LocalDate.class);
+        YearMonth last = newest != null && YearMonth.from(newest).isAfter(YearMonth.now())
+                ? YearMonth.from(newest)
+                : YearMonth.now();
+        for (YearMonth month = oldest != null ? YearMonth.from(oldest) : YearMonth.now(); !month.isAfter(last);
+                month = month.plusMonths(1)) {
+            createPartition(month);
+        }
+        log.info("activity_logs partitioned, existing rows are moved from {} in the background", LEGACY_TABLE);
+    }
+
+    private void createUpcomingPartitions() {
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= MONTHS_AHEAD; i++) {
+            createPartition(current.plusMonths(i));
+        }
+    }
+
+    private void createPartition(YearMonth month) {
+        String name = partitionName(month);
+        LocalDateTime from = month.atDay(1).atStartOfDay();
+        LocalDateTime to = month.plusMonths(1).atDay(1).atStartOfDay();
+        String bounds = "FOR VALUES FROM ('" + from.toLocalDate() + "') TO ('" + to.toLocalDate() + "')";
+
+        Boolean hasDefaultRows = jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NULL AND EXISTS "
+                + "(SELECT 1 FROM " + DEFAULT_PARTITION + " WHERE created_at >= ? AND created_at < ?)",
+                Boolean.class, name, from, to);
+        if (!Boolean.TRUE.equals(hasDefaultRows)) {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + name + " PARTITION OF activity_logs " + bounds);
+            return;
+        }
+
+        // PARTITION OF fails while the default partition holds rows of the month,
+        // so build the partition standalone, move the rows and attach it
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.execute("CREATE TABLE " + name + " (LIKE activity_logs INCLUDING DEFAULTS)");
+            int moved = jdbcTemplate.update("WITH moved AS (DELETE FROM " + DEFAULT_PARTITION
+                    + " WHERE created_at >= ? AND created_at < ? RETURNING *) "
+                    + "INSERT INTO " + name + " SELECT * FROM moved", from, to);
+            jdbcTemplate.execute("ALTER TABLE activity_logs ATTACH PARTITION " + name + " " + bounds);
+            log.info("Created activity log partition {} with {} rows from the default partition", name, moved);
+        });
+    }
+
+    private void dropExpiredPartitions() {
+        if (retentionMonths <= 0) {
+            return;
+        }
+
+        String oldestKept = partitionName(YearMonth.now().minusMonths(retentionMonths));
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                        + "WHERE i.inhparent = to_regclass('activity_logs')",
+                String.class);
+
+        for (String partition : partitions) {
+            // Monthly partition names sort chronologically; skip the default partition
+            if (partition.matches(PARTITION_PREFIX + "\\d{6}") && partition.compareTo(oldestKept) < 0) {
+                jdbcTemplate.execute("DROP TABLE " + partition);
+                log.info("Dropped activity log partition {}", partition);
+            }
+        }
+    }
+
+    private String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(PARTITION_SUFFIX);
+    }
+}
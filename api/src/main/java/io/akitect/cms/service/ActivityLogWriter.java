@@ -0,0 +1,181 @@
+package io.akitect.cms.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.akitect.cms.model.ActivityLog;
+import io.akitect.cms.util.TransactionUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Asynchronous, batched writer for activity logs.
+ *
+ * Callers hand entries over after their transaction commits; a single writer
+ * thread drains the bounded queue and inserts each batch with one JDBC batch
+ * statement. If a batch fails, it is rolled back and its entries are retried
+ * one by one, so only the failing entries are lost and counted in the
+ * {@code activity_log.failed} metric. When the queue is full, entries are
+ * dropped rather than blocking the request and counted in the
+ * {@code activity_log.dropped} metric. The queue is drained on shutdown.
+ */
+@Component
+@Slf4j
+public class ActivityLogWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO activity_logs "
+            + "(id, user_id, action, entity_type, entity_id, ip_address, user_agent, details, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Value("${akitect.cms.activity-log.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${akitect.cms.activity-log.batch-size:500}")
+    private int batchSize;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private BlockingQueue<Object[]> queue;
+    private Counter writtenCounter;
+    private Counter droppedCounter;
+    private Counter failedCounter;
+    private Thread writerThread;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        writtenCounter = meterRegistry.counter("activity_log.written");
+        droppedCounter = meterRegistry.counter("activity_log.dropped");
+        failedCounter = meterRegistry.counter("activity_log.failed");
+        Gauge.builder("activity_log.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+
+        running = true;
+        writerThread = new Thread(this::run, "activity-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Queue an activity log entry once the current transaction commits, or
+     * immediately if no transaction is active. Never blocks.
+     *
+     * @param activityLog Entry to write
+     */
+    public void submit(ActivityLog activityLog) {
+        Object[] row = toRow(activityLog);
+        TransactionUtils.afterCommit(() -> enqueue(row));
+    }
+
+    /**
+     * Queue several activity log entries together, see
+     * {@link #submit(ActivityLog)}
+     *
+     * @param activityLogs Entries to write
+     */
+    public void submitAll(List<ActivityLog> activityLogs) {
+        List<Object[]> rows = activityLogs.stream().map(this::toRow).toList();
+        TransactionUtils.afterCommit(() -> rows.forEach(this::enqueue));
+    }
+
+    private void enqueue(Object[] row) {
+        if (!queue.offer(row)) {
+            droppedCounter.increment();
+            log.warn("Activity log queue is full, dropped {} entry", row[2]);
+        }
+    }
+
+    private Object[] toRow(ActivityLog activityLog) {
+        LocalDateTime createdAt = activityLog.getCreatedAt() != null ? activityLog.getCreatedAt() : LocalDateTime.now();
+        return new Object[] {
+                UUID.randomUUID(),
+                activityLog.getUser() != null ? activityLog.getUser().getId() : null,
+                activityLog.getAction(),
+                activityLog.getEntityType(),
+                activityLog.getEntityId(),
+                activityLog.getIpAddress(),
+                activityLog.getUserAgent(),
+                activityLog.getDetails(),
+                Timestamp.valueOf(createdAt)
+        };
+    }
+
+    private void run() {
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                Object[] first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<Object[]> batch) {
+        try {
+            // All or nothing, so the retry below cannot insert an entry twice
+            new TransactionTemplate(transactionManager)
+                    .executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, batch));
+            writtenCounter.increment(batch.size());
+            return;
+        } catch (Exception e) {
+            log.warn("Failed to write {} activity log entries as a batch, retrying one by one: {}",
+                    batch.size(), e.getMessage());
+        }
+
+        for (Object[] row : batch) {
+            try {
+                jdbcTemplate.update(INSERT_SQL, row);
+                writtenCounter.increment();
+            } catch (Exception e) {
+                failedCounter.increment();
+                log.error("Failed to write {} activity log entry: {}", row[2], e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void drainOnShutdown() throws InterruptedException {
+        running = false;
+        writerThread.join(TimeUnit.SECONDS.toMillis(10));
+
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+}
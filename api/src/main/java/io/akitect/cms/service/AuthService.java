@@ -1,6 +1,7 @@
 package io.akitect.cms.service;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -28,7 +29,6 @@ import io.akitect.cms.model.ActivityLog;
 import io.akitect.cms.model.Role;
 import io.akitect.cms.model.User;
 import io.akitect.cms.model.UserSession;
-import io.akitect.cms.repository.ActivityLogRepository;
 import io.akitect.cms.repository.RoleRepository;
 import io.akitect.cms.repository.UserRepository;
 import io.akitect.cms.repository.UserSessionRepository;
@@ -44,25 +44,30 @@ public class AuthService {
     private final AuthenticationManager authenticationManager;
     private final JwtUtils jwtUtils;
     private final UserRepository userRepository;
-    private final ActivityLogRepository activityLogRepository;
+    private final ActivityLogWriter activityLogWriter;
     private final UserSessionRepository userSessionRepository;
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
+    private final SessionActivityTracker sessionActivityTracker;
+    private final SessionTokens sessionTokens;
 
     private static final String USER_AGENT = "User-Agent";
     private static final String UNKNOWN = "unknown";
 
     public AuthService(AuthenticationManager authenticationManager, JwtUtils jwtUtils,
-            UserRepository userRepository, ActivityLogRepository activityLogRepository,
+            UserRepository userRepository, ActivityLogWriter activityLogWriter,
             UserSessionRepository userSessionRepository, RoleRepository roleRepository,
-            PasswordEncoder passwordEncoder) {
+            PasswordEncoder passwordEncoder, SessionActivityTracker sessionActivityTracker,
+            SessionTokens sessionTokens) {
         this.authenticationManager = authenticationManager;
         this.jwtUtils = jwtUtils;
         this.userRepository = userRepository;
-        this.activityLogRepository = activityLogRepository;
+        this.activityLogWriter = activityLogWriter;
         this.userSessionRepository = userSessionRepository;
         this.roleRepository = roleRepository;
         this.passwordEncoder = passwordEncoder;
+        this.sessionActivityTracker = sessionActivityTracker;
+        this.sessionTokens = sessionTokens;
     }
 
     public JwtResponse login(LoginDTO loginDTO, HttpServletRequest request) {
@@ -94,7 +99,7 @@ public class AuthService {
             // Create new session record
             UserSession session = new UserSession();
             session.setUser(user);
-            session.setToken(jwt);
+            session.setToken(sessionTokens.toStoredToken(jwt));
             session.setIpAddress(getClientIp(request));
             session.setUserAgent(request.getHeader(USER_AGENT));
             session.setDeviceInfo(extractDeviceInfo(request.getHeader(USER_AGENT)));
@@ -113,7 +118,7 @@ public class AuthService {
             activityLog.setIpAddress(getClientIp(request));
             activityLog.setUserAgent(request.getHeader(USER_AGENT));
             activityLog.setCreatedAt(LocalDateTime.now());
-            activityLogRepository.save(activityLog);
+            activityLogWriter.submit(activityLog);
 
             // Get user roles
             List<String> roles = userDetails.getAuthorities().stream()
@@ -186,7 +191,12 @@ public class AuthService {
         try {
             if (token != null) {
                 // Find and invalidate the session
-                Optional<UserSession> sessionOpt = userSessionRepository.findByToken(token);
+                Optional<UserSession> sessionOpt = userSessionRepository
+                        .findByToken(sessionTokens.toStoredToken(token));
+                if (sessionOpt.isEmpty() && sessionTokens.isHashed()) {
+                    // Sessions created before hashing was enabled hold the raw token
+                    sessionOpt = userSessionRepository.findByToken(token);
+                }
                 if (sessionOpt.isPresent()) {
                     UserSession session = sessionOpt.get();
                     session.setActive(false);
@@ -200,7 +210,7 @@ public class AuthService {
                     activityLog.setIpAddress(getClientIp(request));
                     activityLog.setUserAgent(request.getHeader(USER_AGENT));
                     activityLog.setCreatedAt(LocalDateTime.now());
-                    activityLogRepository.save(activityLog);
+                    activityLogWriter.submit(activityLog);
 
                     return true;
                 }
@@ -259,7 +269,7 @@ public class AuthService {
         activityLog.setIpAddress(getClientIp(request));
         activityLog.setUserAgent(request.getHeader(USER_AGENT));
         activityLog.setCreatedAt(LocalDateTime.now());
-        activityLogRepository.save(activityLog);
+        activityLogWriter.submit(activityLog);
 
         return MessageResponse.success("User registered successfully!");
     }
@@ -295,25 +305,23 @@ public class AuthService {
             User user = userRepository.findById(userId)
                     .orElseThrow(() -> new RuntimeException("User not found"));
 
-            List<UserSession> activeSessions = userSessionRepository.findActiveSessionsByUserId(userId);
-            int count = 0;
-
-            for (UserSession session : activeSessions) {
-                session.setActive(false);
-                session.setRevokedAt(LocalDateTime.now());
-                userSessionRepository.save(session);
-                count++;
+            LocalDateTime now = LocalDateTime.now();
+            List<UUID> revokedSessionIds = userSessionRepository.revokeAllActiveSessions(userId, now);
 
-                // Log the session revocation
+            // Log the session revocations
+            List<ActivityLog> activityLogs = revokedSessionIds.stream().map(sessionId -> {
                 ActivityLog activityLog = new ActivityLog();
                 activityLog.setUser(user);
                 activityLog.setAction("SESSION_REVOKED");
+                activityLog.setEntityType("USER_SESSION");
+                activityLog.setEntityId(sessionId);
                 activityLog.setDetails("Session revoked: " + reason);
-                activityLog.setCreatedAt(LocalDateTime.now());
-                activityLogRepository.save(activityLog);
-            }
+                activityLog.setCreatedAt(now);
+                return activityLog;
+            }).toList();
+            activityLogWriter.submitAll(activityLogs);
 
-            return count;
+            return revokedSessionIds.size();
         } catch (Exception e) {
             log.error("Error revoking user sessions", e);
             return 0;
@@ -330,17 +338,26 @@ public class AuthService {
         // Fetch active sessions for the user
         List<UserSession> sessions = userSessionRepository.findActiveSessionsByUserId(userId);
 
-        // Map session details to a list of maps
+        // Map session details to a list of maps, including activity not yet flushed
         return sessions.stream().map(session -> {
+            LocalDateTime lastActivity = session.getLastActivity();
+            LocalDateTime pendingActivity = sessionActivityTracker.getPendingActivity(session.getToken());
+            if (pendingActivity != null && (lastActivity == null || pendingActivity.isAfter(lastActivity))) {
+                lastActivity = pendingActivity;
+            }
+
             Map<String, Object> sessionDetails = new HashMap<>();
             sessionDetails.put("id", session.getId());
             sessionDetails.put("ipAddress", session.getIpAddress());
             sessionDetails.put(USER_AGENT, session.getUserAgent());
             sessionDetails.put("deviceInfo", session.getDeviceInfo());
-            sessionDetails.put("lastActivity", session.getLastActivity());
+            sessionDetails.put("lastActivity", lastActivity);
             sessionDetails.put("expiresAt", session.getExpiresAt());
             sessionDetails.put("active", session.isActive());
             return sessionDetails;
-        }).toList();
+        }).sorted(Comparator.comparing(
+                (Map<String, Object> details) -> (LocalDateTime) details.get("lastActivity"),
+                Comparator.nullsLast(Comparator.reverseOrder())))
+                .toList();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,73 @@
+package io.akitect.cms.service;
+
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maintains the category_closure table (see schema.sql), which holds one row
+ * per ancestor/descendant pair of categories, including each category paired
+ * with itself at depth 0. Rows of deleted categories are removed by the
+ * table's ON DELETE CASCADE foreign keys.
+ *
+ * Must be called in the same transaction as the category change, after the
+ * change has been flushed.
+ */
+@Component
+public class CategoryHierarchy {
+
+    private static final String INSERT_PATHS_SQL = "INSERT INTO category_closure (ancestor_id, descendant_id, depth) "
+            + "SELECT ancestor_id, CAST(? AS uuid), depth + 1 FROM category_closure WHERE descendant_id = CAST(? AS uuid) "
+            + "UNION ALL SELECT CAST(? AS uuid), CAST(? AS uuid), 0";
+
+    private static final String DETACH_SUBTREE_SQL = "DELETE FROM category_closure "
+            + "WHERE descendant_id IN (SELECT descendant_id FROM category_closure WHERE ancestor_id = ?) "
+            + "AND ancestor_id NOT IN (SELECT descendant_id FROM category_closure WHERE ancestor_id = ?)";
+
+    private static final String ATTACH_SUBTREE_SQL = "INSERT INTO category_closure (ancestor_id, descendant_id, depth) "
+            + "SELECT above.ancestor_id, below.descendant_id, above.depth + below.depth + 1 "
+            + "FROM category_closure above CROSS JOIN category_closure below "
+            + "WHERE above.descendant_id = ? AND below.ancestor_id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Record a new category
+     *
+     * @param categoryId Category ID
+     * @param parentId   Parent category ID, or null for a top-level category
+     */
+    public void add(UUID categoryId, UUID parentId) {
+        jdbcTemplate.update(INSERT_PATHS_SQL, categoryId, parentId, categoryId, categoryId);
+    }
+
+    /**
+     * Move a category and its whole subtree under a new parent
+     *
+     * @param categoryId  Category ID
+     * @param newParentId New parent category ID, or null to make it top-level
+     */
+    public void move(UUID categoryId, UUID newParentId) {
+        jdbcTemplate.update(DETACH_SUBTREE_SQL, categoryId, categoryId);
+        if (newParentId != null) {
+            jdbcTemplate.update(ATTACH_SUBTREE_SQL, newParentId, categoryId);
+        }
+    }
+
+    /**
+     * Check whether a category is the other one or one of its descendants
+     *
+     * @param categoryId Category to look for
+     * @param ancestorId Root of the subtree
+     * @return true if categoryId is in the subtree of ancestorId
+     */
+    public boolean isInSubtree(UUID categoryId, UUID ancestorId) {
+        Boolean exists = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM category_closure WHERE ancestor_id = ? AND descendant_id = ?)",
+                Boolean.class, ancestorId, categoryId);
+        return Boolean.TRUE.equals(exists);
+    }
+}
@@ -0,0 +1,65 @@
+package io.akitect.cms.service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.akitect.cms.dto.CategoryDTO;
+import io.akitect.cms.repository.CategoryRepository;
+import io.akitect.cms.util.CategoryMapper;
+import io.akitect.cms.util.TransactionUtils;
+
+/**
+ * Cached snapshot of the full category tree. The tree is built on first use
+ * and rebuilt only after a category change is committed.
+ */
+@Component
+public class CategoryTreeCache {
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private volatile List<CategoryDTO> tree;
+
+    // Bumped on every invalidation so a build that raced with a change is not stored
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * Get the category tree
+     *
+     * @return Top-level categories with nested children, shared and read-only
+     */
+    @Transactional(readOnly = true)
+    public List<CategoryDTO> getTree() {
+        List<CategoryDTO> current = tree;
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (this) {
+            if (tree != null) {
+                return tree;
+            }
+
+            long buildVersion = version.get();
+            List<CategoryDTO> built = CategoryMapper.toCategoryTreeDTOs(categoryRepository.findAll());
+            if (version.get() == buildVersion) {
+                tree = built;
+            }
+            return built;
+        }
+    }
+
+    /**
+     * Drop the cached tree once the current transaction commits
+     */
+    public void invalidateAfterCommit() {
+        TransactionUtils.afterCommit(() -> {
+            version.incrementAndGet();
+            tree = null;
+        });
+    }
+}
@@ -15,6 +15,8 @@ import org.springframework.util.StringUtils;
 
 import io.akitect.cms.model.Permission;
 import io.akitect.cms.repository.PermissionRepository;
+import io.akitect.cms.security.PermissionRegistry;
+import io.akitect.cms.security.UserDetailsServiceImpl;
 import jakarta.persistence.criteria.Predicate;
 
 @Service
@@ -23,6 +25,12 @@ public class PermissionService {
     @Autowired
     private PermissionRepository permissionRepository;
 
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Autowired
+    private PermissionRegistry permissionRegistry;
+
     /**
      * Get all permissions with search and filtering
      * 
@@ -94,7 +102,9 @@ public class PermissionService {
      */
     public Permission createPermission(Permission permission) {
         permission.setCreatedAt(LocalDateTime.now());
-        return permissionRepository.save(permission);
+        Permission savedPermission = permissionRepository.save(permission);
+        permissionRegistry.rebuildAfterCommit();
+        return savedPermission;
     }
 
     /**
@@ -111,7 +121,10 @@ public class PermissionService {
         permission.setName(permissionDetails.getName());
         permission.setDescription(permissionDetails.getDescription());
 
-        return permissionRepository.save(permission);
+        Permission savedPermission = permissionRepository.save(permission);
+        userDetailsService.evictAllAfterCommit();
+        permissionRegistry.rebuildAfterCommit();
+        return savedPermission;
     }
 
     /**
@@ -128,5 +141,7 @@ public class PermissionService {
         permission.setRoles(null);
 
         permissionRepository.delete(permission);
+        userDetailsService.evictAllAfterCommit();
+        permissionRegistry.rebuildAfterCommit();
     }
 }
\ No newline at end of file
@@ -0,0 +1,211 @@
+package io.akitect.cms.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.akitect.cms.dto.PostDTO;
+import io.akitect.cms.util.TransactionUtils;
+
+/**
+ * Read-through cache of fully assembled {@link PostDTO}s keyed by slug, with a
+ * secondary post id to slug index so writes can evict by id.
+ *
+ * Misses are loaded single-flight: concurrent readers of the same slug share
+ * one load. When a post is updated in place, its previous version is kept
+ * briefly and served to those readers while the new version loads
+ * (stale-while-revalidate).
+ *
+ * Cached DTOs hold a view count baseline only; the views recorded by
+ * {@link PostViewCounter} are added by {@link PostService} when the entry is
+ * read, so view flushes never evict a post.
+ */
+@Component
+public class PostCache {
+
+    public static final String POSTS_BY_SLUG = "postsBySlug";
+    public static final String POST_SLUGS_BY_ID = "postSlugsById";
+
+    private final Cache postsBySlug;
+    private final Cache slugsById;
+
+    /**
+     * Load in progress for a slug, invalidated when the slug is evicted while
+     * it runs so the possibly outdated result is not cached
+     */
+    private static final class Load {
+        private final CompletableFuture<PostDTO> future = new CompletableFuture<>();
+        private volatile boolean invalidated;
+    }
+
+    // Loads in progress, one per slug
+    private final Map<String, Load> loading = new ConcurrentHashMap<>();
+
+    // Previous versions of updated posts, served only while a reload is in progress
+    private final com.github.benmanes.caffeine.cache.Cache<String, PostDTO> stale = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(1))
+            .maximumSize(1000)
+            .build();
+
+    public PostCache(CacheManager cacheManager) {
+        this.postsBySlug = cacheManager.getCache(POSTS_BY_SLUG);
+        this.slugsById = cacheManager.getCache(POST_SLUGS_BY_ID);
+    }
+
+    /**
+     * Get a cached post by slug
+     *
+     * @param slug Post slug
+     * @return Cached PostDTO, or null on a miss
+     */
+    public PostDTO getBySlug(String slug) {
+        return postsBySlug.get(slug, PostDTO.class);
+    }
+
+    /**
+     * Get a cached post by slug, loading it on a miss. Only one caller per slug
+     * runs the loader; the others get the previous version of the post if one
+     * is being refreshed, or wait for the load otherwise.
+     *
+     * @param slug   Post slug
+     * @param loader Loads and assembles the post, may throw
+     * @return PostDTO, shared with other callers and not to be modified
+     */
+    public PostDTO getOrLoad(String slug, Function<String, PostDTO> loader) {
+        PostDTO cached = getBySlug(slug);
+        if (cached != null) {
+            return cached;
+        }
+
+        Load load = new Load();
+        Load inFlight = loading.putIfAbsent(slug, load);
+        if (inFlight != null) {
+            PostDTO previous = stale.getIfPresent(slug);
+            return previous != null ? previous : await(inFlight.future);
+        }
+
+        try {
+            // Another load may have completed between the miss and claiming the slug
+            PostDTO loaded = getBySlug(slug);
+            if (loaded == null) {
+                loaded = loader.apply(slug);
+                if (!load.invalidated) {
+                    put(loaded);
+                    // An eviction may have started after the check; it may not have removed the put yet
+                    if (load.invalidated) {
+                        postsBySlug.evict(slug);
+                    }
+                }
+            }
+            stale.invalidate(slug);
+            load.future.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            stale.invalidate(slug);
+            load.future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(slug, load);
+        }
+    }
+
+    private PostDTO await(CompletableFuture<PostDTO> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Store a post under its slug and index its id
+     *
+     * @param post PostDTO to cache
+     */
+    public void put(PostDTO post) {
+        postsBySlug.put(post.getSlug(), post);
+        slugsById.put(post.getId(), post.getSlug());
+    }
+
+    /**
+     * Evict a post once the current transaction commits, so concurrent readers
+     * cannot re-cache the pre-commit state. Evicts immediately when no
+     * transaction is active. Previous versions kept for a refresh are dropped
+     * too, so a deleted post is not served from them.
+     *
+     * @param postId Post ID
+     * @param slugs  Slugs the post is or was cached under
+     */
+    public void evictAfterCommit(UUID postId, String... slugs) {
+        TransactionUtils.afterCommit(() -> {
+            String indexedSlug = postId != null ? slugsById.get(postId, String.class) : null;
+            if (indexedSlug != null) {
+                stale.invalidate(indexedSlug);
+            }
+            for (String slug : slugs) {
+                if (slug != null) {
+                    stale.invalidate(slug);
+                }
+            }
+            evict(postId, slugs);
+        });
+    }
+
+    /**
+     * Evict a post that was updated without changing its slug once the current
+     * transaction commits, keeping its previous version to serve while the
+     * new one loads
+     *
+     * @param postId Post ID
+     * @param slug   Slug of the post
+     */
+    public void refreshAfterCommit(UUID postId, String slug) {
+        TransactionUtils.afterCommit(() -> refresh(postId, slug));
+    }
+
+    private void refresh(UUID postId, String slug) {
+        PostDTO previous = postsBySlug.get(slug, PostDTO.class);
+        if (previous != null && postId.equals(previous.getId())) {
+            stale.put(slug, previous);
+        }
+        evict(postId, slug);
+    }
+
+    private void evict(UUID postId, String... slugs) {
+        if (postId != null) {
+            String indexedSlug = slugsById.get(postId, String.class);
+            if (indexedSlug != null) {
+                evictSlug(indexedSlug);
+            }
+            slugsById.evict(postId);
+        }
+
+        for (String slug : slugs) {
+            if (slug != null) {
+                evictSlug(slug);
+            }
+        }
+    }
+
+    private void evictSlug(String slug) {
+        // Invalidate a load of this slug first, so it cannot cache what it read before the write
+        Load load = loading.get(slug);
+        if (load != null) {
+            load.invalidated = true;
+        }
+        postsBySlug.evict(slug);
+    }
+}
@@ -0,0 +1,288 @@
+package io.akitect.cms.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.akitect.cms.dto.PostDTO;
+import io.akitect.cms.util.ETagUtils;
+import io.akitect.cms.util.TransactionUtils;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * On-disk store of pre-serialized, gzip-compressed public post responses.
+ *
+ * A payload is written the first time a published post is served after it
+ * changed and reused until the post is updated or deleted, so the JSON is
+ * serialized and compressed once per version instead of on every request.
+ * View flushes leave payloads alone: the view count in a stored payload is
+ * the one current when it was written.
+ * Payloads are handed to Tomcat's sendfile support when available, otherwise
+ * copied with {@link FileChannel#transferTo}.
+ *
+ * Replaced files are kept for a grace period before deletion, since a
+ * sendfile response opens its file only after the controller returns.
+ *
+ * Each instance writes to its own subdirectory of
+ * {@code akitect.cms.post-payloads.dir}, so instances sharing the directory
+ * never touch each other's files, and only deletes the files it created.
+ */
+@Component
+@Slf4j
+public class PostPayloadStore {
+
+    // Request attributes of Tomcat's sendfile support
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final long RETIRED_GRACE_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private static final String PAYLOAD_SUFFIX = ".json.gz";
+
+    @Value("${akitect.cms.post-payloads.enabled:true}")
+    private boolean enabled;
+
+    @Value("${akitect.cms.post-payloads.dir:${java.io.tmpdir}/akitect-cms/post-payloads}")
+    private Path baseDirectory;
+
+    // Created by this instance inside the base directory
+    private Path directory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final Map<UUID, Payload> payloads = new ConcurrentHashMap<>();
+    private final Queue<Retired> retired = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Compressed response of one post version
+     *
+     * @param version Post updatedAt in epoch milliseconds
+     * @param file    Gzip-compressed JSON
+     * @param length  File size in bytes
+     */
+    private record Payload(long version, Path file, long length) {
+    }
+
+    private record Retired(Path file, long retiredAt) {
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        if (!enabled) {
+            return;
+        }
+
+        Files.createDirectories(baseDirectory);
+        directory = Files.createTempDirectory(baseDirectory, "instance-");
+    }
+
+    /**
+     * Delete the payload files of this instance and its directory
+     */
+    @PreDestroy
+    public void destroy() {
+        if (directory == null) {
+            return;
+        }
+
+        payloads.values().forEach(this::retire);
+        payloads.clear();
+        retired.forEach(entry -> deleteFile(entry.file()));
+        retired.clear();
+
+        try {
+            // Succeeds only if nothing but our own files was in it
+            Files.deleteIfExists(directory);
+        } catch (IOException e) {
+            log.warn("Failed to delete payload directory {}: {}", directory, e.getMessage());
+        }
+    }
+
+    /**
+     * Write the stored payload of a post version to the response, if there is
+     * one and the client accepts gzip. Headers other than the body's
+     * representation headers are left to the caller.
+     *
+     * @param postId    Post ID
+     * @param updatedAt Current post version
+     * @param request   Servlet request
+     * @param response  Servlet response
+     * @return True if the response was served from the store
+     */
+    public boolean serve(UUID postId, LocalDateTime updatedAt, HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        if (!enabled || !acceptsGzip(request)) {
+            return false;
+        }
+
+        Payload payload = payloads.get(postId);
+        if (payload == null || payload.version() != ETagUtils.toEpochMilli(updatedAt)) {
+            return false;
+        }
+
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setContentLengthLong(payload.length());
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, payload.file().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, payload.length());
+            return true;
+        }
+
+        try (FileChannel channel = FileChannel.open(payload.file(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < payload.length()) {
+                position += channel.transferTo(position, payload.length() - position, out);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Serialize, compress and store the response for a published post version.
+     * Other posts are not stored. Failures are logged and leave the post to be
+     * served without the store.
+     *
+     * @param post Post as returned by the public endpoint
+     */
+    public void store(PostDTO post) {
+        if (!enabled || !"PUBLISHED".equals(post.getStatus())) {
+            return;
+        }
+
+        long version = ETagUtils.toEpochMilli(post.getUpdatedAt());
+        Payload current = payloads.get(post.getId());
+        if (current != null && current.version() >= version) {
+            return;
+        }
+
+        Path file;
+        try {
+            file = Files.createTempFile(directory, post.getId() + "-", PAYLOAD_SUFFIX);
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file))) {
+                objectMapper.writeValue(out, post);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to store payload of post {}: {}", post.getId(), e.getMessage());
+            return;
+        }
+
+        Payload payload = new Payload(version, file, file.toFile().length());
+        payloads.merge(post.getId(), payload, (existing, stored) -> {
+            // Keep whichever is newer; the other file is retired
+            if (existing.version() > stored.version()) {
+                retire(stored);
+                return existing;
+            }
+            retire(existing);
+            return stored;
+        });
+    }
+
+    /**
+     * Drop the stored payload of a post
+     *
+     * @param postId Post ID
+     */
+    public void invalidate(UUID postId) {
+        Payload payload = payloads.remove(postId);
+        if (payload != null) {
+            retire(payload);
+        }
+    }
+
+    /**
+     * Drop the stored payload of a post once the current transaction commits
+     *
+     * @param postId Post ID
+     */
+    public void invalidateAfterCommit(UUID postId) {
+        if (enabled) {
+            TransactionUtils.afterCommit(() -> invalidate(postId));
+        }
+    }
+
+    /**
+     * Delete replaced payload files whose grace period has passed
+     */
+    @Scheduled(fixedDelayString = "${akitect.cms.post-payloads.cleanup-interval-ms:60000}")
+    public void deleteRetired() {
+        long cutoff = System.currentTimeMillis() - RETIRED_GRACE_MILLIS;
+        Iterator<Retired> iterator = retired.iterator();
+        while (iterator.hasNext()) {
+            Retired entry = iterator.next();
+            if (entry.retiredAt() > cutoff) {
+                break;
+            }
+            deleteFile(entry.file());
+            iterator.remove();
+        }
+    }
+
+    private void deleteFile(Path file) {
+        // Never delete anything outside this instance's directory
+        if (!file.startsWith(directory) || !file.getFileName().toString().endsWith(PAYLOAD_SUFFIX)) {
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete payload file {}: {}", file, e.getMessage());
+        }
+    }
+
+    private void retire(Payload payload) {
+        retired.add(new Retired(payload.file(), System.currentTimeMillis()));
+    }
+
+    private boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                // "gzip;q=0" explicitly refuses the encoding
+                return parts.length < 2 || !parts[1].trim().replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+}
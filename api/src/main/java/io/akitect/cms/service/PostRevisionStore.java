@@ -0,0 +1,106 @@
+package io.akitect.cms.service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.akitect.cms.model.Post;
+import io.akitect.cms.model.PostRevision;
+import io.akitect.cms.model.User;
+import io.akitect.cms.repository.PostRepository;
+import io.akitect.cms.repository.PostRevisionRepository;
+import io.akitect.cms.util.TextDeltaUtils;
+
+/**
+ * Stores post revisions as compressed deltas against a periodic full snapshot.
+ *
+ * Every delta applies to the latest snapshot directly rather than to the
+ * previous revision, so restoring any revision reads at most two rows. A new
+ * snapshot is taken every {@code akitect.cms.revisions.snapshot-interval}
+ * revisions, or earlier once the content has drifted so far from the snapshot
+ * that a delta is no longer worth it.
+ */
+@Component
+public class PostRevisionStore {
+
+    @Value("${akitect.cms.revisions.snapshot-interval:50}")
+    private int snapshotInterval;
+
+    @Autowired
+    private PostRevisionRepository postRevisionRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    /**
+     * Record the current title, content and excerpt of a post as its next
+     * revision. Must run in a transaction: the post row stays locked until it
+     * ends, so concurrent updates of the post get distinct revision numbers.
+     *
+     * @param post      Saved post
+     * @param createdBy User who made the change
+     * @return Saved revision
+     */
+    public PostRevision record(Post post, User createdBy) {
+        postRepository.lockById(post.getId());
+        int revisionNumber = postRevisionRepository.findMaxRevisionNumber(post.getId()) + 1;
+
+        PostRevision revision = new PostRevision();
+        revision.setPost(post);
+        revision.setTitle(post.getTitle());
+        revision.setExcerpt(post.getExcerpt());
+        revision.setRevisionNumber(revisionNumber);
+        revision.setCreatedBy(createdBy);
+        revision.setCreatedAt(LocalDateTime.now());
+
+        String content = post.getContent();
+        revision.setContentLength(content.length());
+
+        PostRevision snapshot = revisionNumber > 1
+                ? postRevisionRepository.findFirstByPostIdAndBaseRevisionNumberIsNullOrderByRevisionNumberDesc(post.getId())
+                        .orElse(null)
+                : null;
+
+        byte[] delta = null;
+        if (snapshot != null && revisionNumber - snapshot.getRevisionNumber() < snapshotInterval) {
+            delta = TextDeltaUtils.diff(snapshot.getContent(), content);
+        }
+
+        // Keep a delta only while it is well under the size of the full content
+        if (delta != null && delta.length * 2 < content.length()) {
+            revision.setBaseRevisionNumber(snapshot.getRevisionNumber());
+            revision.setContentDelta(delta);
+        } else {
+            revision.setContent(content);
+        }
+
+        return postRevisionRepository.save(revision);
+    }
+
+    /**
+     * Restore the full content of a revision
+     *
+     * @param postId    Post ID
+     * @param revision  Revision to restore
+     * @param snapshots Snapshot contents by revision number, already known or
+     *                  loaded by earlier calls; missing snapshots are loaded
+     *                  and added
+     * @return Content of the post at this revision
+     */
+    public String getContent(UUID postId, PostRevision revision, Map<Integer, String> snapshots) {
+        if (revision.isSnapshot()) {
+            return revision.getContent();
+        }
+
+        String base = snapshots.computeIfAbsent(revision.getBaseRevisionNumber(),
+                number -> postRevisionRepository.findByPostIdAndRevisionNumber(postId, number)
+                        .map(PostRevision::getContent)
+                        .orElseThrow(() -> new IllegalStateException("Snapshot revision " + number
+                                + " of post " + postId + " is missing")));
+        return TextDeltaUtils.apply(base, revision.getContentDelta());
+    }
+}
@@ -0,0 +1,385 @@
+package io.akitect.cms.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.jsoup.Jsoup;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.akitect.cms.model.Post;
+import io.akitect.cms.repository.PostRepository;
+import io.akitect.cms.util.SearchUtils;
+import io.akitect.cms.util.TransactionUtils;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory inverted index over published posts, scored with BM25.
+ *
+ * The index is built from a streaming scan once the application is ready and
+ * kept current by {@link PostService} after each committed write. Until the
+ * first build completes {@link #isReady()} is false and search falls back to
+ * PostgreSQL. Disabled unless {@code akitect.cms.search.in-memory-index.enabled}
+ * is set.
+ *
+ * Updated and deleted posts are tombstoned; postings are compacted once
+ * tombstones outnumber live documents.
+ */
+@Component
+@Slf4j
+public class PostSearchIndex {
+
+    // BM25 parameters
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    // Term frequency weight per field, mirroring the A/B/C weights in schema.sql
+    private static final int TITLE_WEIGHT = 3;
+    private static final int EXCERPT_WEIGHT = 2;
+    private static final int CONTENT_WEIGHT = 1;
+
+    // Maximum number of index terms a single query token expands to as a prefix
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+
+    @Value("${akitect.cms.search.in-memory-index.enabled:false}")
+    private boolean enabled;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Guarded by lock; null until the first build completes
+    private Index index;
+
+    // Writes that arrive while a build is running, replayed once it completes.
+    // Guarded by lock; null when no build is running
+    private List<Runnable> pendingWrites;
+
+    /**
+     * One page of index hits in rank order
+     *
+     * @param ids   Post IDs of the page
+     * @param total Total number of matching posts
+     */
+    public record Result(List<UUID> ids, long total) {
+    }
+
+    public boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return index != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Build the index from all published posts
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        if (!enabled) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pendingWrites = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long start = System.currentTimeMillis();
+        Index built = new Index();
+        try {
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setReadOnly(true);
+            transaction.executeWithoutResult(status -> {
+                try (Stream<Object[]> rows = postRepository.streamPublishedForIndexing()) {
+                    rows.forEach(row -> built.add((UUID) row[0], (String) row[1], (String) row[2], (String) row[3]));
+                }
+            });
+        } catch (RuntimeException e) {
+            log.error("Failed to build the post search index", e);
+            lock.writeLock().lock();
+            try {
+                pendingWrites = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            index = built;
+            pendingWrites.forEach(Runnable::run);
+            pendingWrites = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("Indexed {} published posts ({} terms) in {} ms", built.liveCount, built.postings.size(),
+                System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Index a post once the current transaction commits. Posts that are not
+     * published are removed from the index instead.
+     *
+     * @param post Saved post
+     */
+    public void indexAfterCommit(Post post) {
+        if (!enabled) {
+            return;
+        }
+
+        UUID id = post.getId();
+        if (!"PUBLISHED".equals(post.getStatus())) {
+            removeAfterCommit(id);
+            return;
+        }
+
+        String title = post.getTitle();
+        String excerpt = post.getExcerpt();
+        String content = post.getContent();
+        TransactionUtils.afterCommit(() -> write(current -> current.add(id, title, excerpt, content)));
+    }
+
+    /**
+     * Remove a post from the index once the current transaction commits
+     *
+     * @param postId Post ID
+     */
+    public void removeAfterCommit(UUID postId) {
+        if (!enabled) {
+            return;
+        }
+
+        TransactionUtils.afterCommit(() -> write(current -> current.remove(postId)));
+    }
+
+    /**
+     * Search the index. Every query token must match, each as a prefix of an
+     * indexed term.
+     *
+     * @param query  Search query
+     * @param offset Number of hits to skip
+     * @param limit  Maximum number of hits to return
+     * @return Page of post IDs in rank order with the total hit count
+     */
+    public Result search(String query, long offset, int limit) {
+        List<String> tokens = SearchUtils.tokenizeSearchText(query);
+        if (tokens.isEmpty()) {
+            return new Result(List.of(), 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            return index == null ? new Result(List.of(), 0) : index.search(tokens, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void write(Consumer<Index> change) {
+        lock.writeLock().lock();
+        try {
+            if (pendingWrites != null) {
+                pendingWrites.add(() -> change.accept(index));
+            }
+            if (index != null) {
+                change.accept(index);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Postings list of one term: document ordinals in ascending order with the
+     * weighted term frequency of each.
+     */
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int[] freqs = new int[4];
+        private int size;
+
+        private void add(int doc, int freq) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size] = freq;
+            size++;
+        }
+    }
+
+    /**
+     * Index state. Not thread-safe; access is guarded by the enclosing lock.
+     */
+    private static final class Index {
+        private final NavigableMap<String, Postings> postings = new TreeMap<>();
+        private final Map<UUID, Integer> ordinalsById = new HashMap<>();
+        private UUID[] ids = new UUID[64];
+        private int[] docLengths = new int[64];
+        private BitSet live = new BitSet();
+        private int docCount;
+        private int liveCount;
+        private long totalLength;
+
+        private void add(UUID id, String title, String excerpt, String content) {
+            remove(id);
+
+            Map<String, Integer> freqs = new HashMap<>();
+            addTerms(freqs, title, TITLE_WEIGHT);
+            addTerms(freqs, excerpt, EXCERPT_WEIGHT);
+            addTerms(freqs, content == null ? null : Jsoup.parse(content).text(), CONTENT_WEIGHT);
+
+            if (docCount == ids.length) {
+                ids = Arrays.copyOf(ids, docCount * 2);
+                docLengths = Arrays.copyOf(docLengths, docCount * 2);
+            }
+
+            int ordinal = docCount++;
+            int length = freqs.values().stream().mapToInt(Integer::intValue).sum();
+            ids[ordinal] = id;
+            docLengths[ordinal] = length;
+            live.set(ordinal);
+            ordinalsById.put(id, ordinal);
+            liveCount++;
+            totalLength += length;
+
+            freqs.forEach((term, freq) -> postings.computeIfAbsent(term, t -> new Postings()).add(ordinal, freq));
+        }
+
+        private void addTerms(Map<String, Integer> freqs, String text, int weight) {
+            for (String token : SearchUtils.tokenizeSearchText(text)) {
+                freqs.merge(token, weight, Integer::sum);
+            }
+        }
+
+        private void remove(UUID id) {
+            Integer ordinal = ordinalsById.remove(id);
+            if (ordinal == null) {
+                return;
+            }
+
+            live.clear(ordinal);
+            liveCount--;
+            totalLength -= docLengths[ordinal];
+
+            if (docCount - liveCount > liveCount) {
+                compact();
+            }
+        }
+
+        /**
+         * Drop tombstoned documents and renumber the live ones
+         */
+        private void compact() {
+            int[] remap = new int[docCount];
+            int next = 0;
+            for (int doc = 0; doc < docCount; doc++) {
+                if (live.get(doc)) {
+                    remap[doc] = next;
+                    ids[next] = ids[doc];
+                    docLengths[next] = docLengths[doc];
+                    ordinalsById.put(ids[next], next);
+                    next++;
+                } else {
+                    remap[doc] = -1;
+                }
+            }
+            Arrays.fill(ids, next, docCount, null);
+            docCount = next;
+            live = new BitSet();
+            live.set(0, docCount);
+
+            postings.values().removeIf(list -> {
+                int kept = 0;
+                for (int i = 0; i < list.size; i++) {
+                    int doc = remap[list.docs[i]];
+                    if (doc >= 0) {
+                        list.docs[kept] = doc;
+                        list.freqs[kept] = list.freqs[i];
+                        kept++;
+                    }
+                }
+                list.size = kept;
+                return kept == 0;
+            });
+        }
+
+        private Result search(List<String> tokens, long offset, int limit) {
+            if (liveCount == 0) {
+                return new Result(List.of(), 0);
+            }
+
+            float averageLength = (float) totalLength / liveCount;
+            float[] scores = new float[docCount];
+            int[] matchedTokens = new int[docCount];
+
+            for (int t = 0; t < tokens.size(); t++) {
+                int expansions = 0;
+                for (Map.Entry<String, Postings> entry : postings.tailMap(tokens.get(t), true).entrySet()) {
+                    if (!entry.getKey().startsWith(tokens.get(t)) || expansions++ == MAX_PREFIX_EXPANSIONS) {
+                        break;
+                    }
+
+                    // Document frequency includes tombstones until the next compaction
+                    Postings list = entry.getValue();
+                    float idf = (float) Math.log(1 + (liveCount - list.size + 0.5) / (list.size + 0.5));
+                    for (int i = 0; i < list.size; i++) {
+                        int doc = list.docs[i];
+                        // Only documents that matched every previous token stay candidates
+                        if (!live.get(doc) || matchedTokens[doc] < t) {
+                            continue;
+                        }
+
+                        float freq = list.freqs[i];
+                        float norm = K1 * (1 - B + B * docLengths[doc] / averageLength);
+                        scores[doc] += idf * freq * (K1 + 1) / (freq + norm);
+                        matchedTokens[doc] = t + 1;
+                    }
+                }
+            }
+
+            List<Integer> hits = new ArrayList<>();
+            for (int doc = 0; doc < docCount; doc++) {
+                if (matchedTokens[doc] == tokens.size()) {
+                    hits.add(doc);
+                }
+            }
+            hits.sort((a, b) -> Float.compare(scores[b], scores[a]));
+
+            List<UUID> page = hits.stream()
+                    .skip(offset)
+                    .limit(limit)
+                    .map(doc -> ids[doc])
+                    .toList();
+            return new Result(page, hits.size());
+        }
+    }
+}
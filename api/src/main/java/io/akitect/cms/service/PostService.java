@@ -9,19 +9,27 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
 import io.akitect.cms.dto.CategoryDTO;
+import io.akitect.cms.dto.CursorPageDTO;
 import io.akitect.cms.dto.PostCreateDTO;
 import io.akitect.cms.dto.PostDTO;
 import io.akitect.cms.dto.PostRevisionDTO;
+import io.akitect.cms.dto.PostRevisionSummaryDTO;
+import io.akitect.cms.dto.PostSummaryDTO;
 import io.akitect.cms.dto.PostUpdateDTO;
 import io.akitect.cms.dto.TagDTO;
 import io.akitect.cms.model.Category;
@@ -29,17 +37,27 @@ import io.akitect.cms.model.Post;
 import io.akitect.cms.model.PostRevision;
 import io.akitect.cms.model.Tag;
 import io.akitect.cms.model.User;
+import io.akitect.cms.model.base.BaseEntity;
 import io.akitect.cms.repository.CategoryRepository;
 import io.akitect.cms.repository.PostRepository;
+import io.akitect.cms.repository.PostRevisionRepository;
+import io.akitect.cms.repository.PostSearchHit;
+import io.akitect.cms.repository.PostSummaryRow;
+import io.akitect.cms.repository.PostVersion;
 import io.akitect.cms.repository.TagRepository;
 import io.akitect.cms.repository.UserRepository;
+import io.akitect.cms.service.SlugAllocator.SlugTable;
+import io.akitect.cms.util.CursorUtil;
 import io.akitect.cms.util.PageableUtil;
+import io.akitect.cms.util.SearchUtils;
 import io.akitect.cms.util.SlugUtil;
 import io.akitect.cms.util.SpecificationUtils;
 
 @Service
 public class PostService {
 
+    private static final Set<String> KEYSET_SORT_FIELDS = Set.of("publishedAt", "createdAt", "updatedAt");
+
     @Autowired
     private PostRepository postRepository;
 
@@ -52,14 +70,45 @@ public class PostService {
     @Autowired
     private TagRepository tagRepository;
 
+    @Autowired
+    private PostViewCounter postViewCounter;
+
+    @Autowired
+    private PostCache postCache;
+
+    @Autowired
+    private PostSearchIndex postSearchIndex;
+
+    @Autowired
+    private PostRevisionStore postRevisionStore;
+
+    @Autowired
+    private PostRevisionRepository postRevisionRepository;
+
+    @Autowired
+    private SlugAllocator slugAllocator;
+
+    @Autowired
+    private PostPayloadStore postPayloadStore;
+
+    @Autowired
+    private RelatedPostsGraph relatedPostsGraph;
+
+    @Autowired
+    private PostStatistics postStatistics;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     /**
      * Get all posts with pagination
      * 
      * @param pageable Pagination information
-     * @return Paginated list of PostDTOs
+     * @return Paginated list of PostSummaryDTOs
      */
-    public Page<PostDTO> getAllPosts(Pageable pageable) {
-        return postRepository.findAll(pageable).map(this::convertToDTO);
+    @Transactional(readOnly = true)
+    public Page<PostSummaryDTO> getAllPosts(Pageable pageable) {
+        return toSummaryPage(postRepository.findAllIds(pageable));
     }
 
     /**
@@ -67,11 +116,61 @@ public class PostService {
      * 
      * @param filters  Map of filters
      * @param pageable Pagination information
-     * @return Filtered paginated list of PostDTOs
+     * @return Filtered paginated list of PostSummaryDTOs
      */
-    public Page<PostDTO> getFilteredPosts(Map<String, Object> filters, Pageable pageable) {
+    @Transactional(readOnly = true)
+    public Page<PostSummaryDTO> getFilteredPosts(Map<String, Object> filters, Pageable pageable) {
         Specification<Post> spec = SpecificationUtils.buildSpecification(filters);
-        return postRepository.findAll(spec, pageable).map(this::convertToDTO);
+        return toSummaryPage(postRepository.findIds(spec, pageable));
+    }
+
+    /**
+     * Get posts with filtering using keyset pagination. Skips the count query
+     * and seeks past the cursor instead of using an offset.
+     * 
+     * @param filters   Map of filters
+     * @param cursor    Cursor returned with the previous page, blank for the
+     *                  first page
+     * @param size      Page size
+     * @param sortBy    Timestamp field to seek on (publishedAt, createdAt or
+     *                  updatedAt); any other field is rejected with 400
+     * @param direction Sort direction (asc/desc)
+     * @return Page of PostSummaryDTOs with the cursor for the next page
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<PostSummaryDTO> getFilteredPostsByCursor(Map<String, Object> filters, String cursor,
+            int size, String sortBy, String direction) {
+        if (!KEYSET_SORT_FIELDS.contains(sortBy)) {
+            // Falling back to another field would silently change which posts are listed
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Cursor pagination can only sort by publishedAt, createdAt or updatedAt");
+        }
+        int limit = PageableUtil.validatePageSize(size);
+
+        Specification<Post> spec = Specification.where(SpecificationUtils.<Post>buildSpecification(filters))
+                .and(CursorUtil.seekAfter(sortBy, direction, CursorUtil.decode(cursor)));
+
+        // Fetch one extra row to know whether another page exists
+        List<UUID> postIds = postRepository.findIds(spec, CursorUtil.createSort(sortBy, direction), limit + 1);
+
+        boolean hasNext = postIds.size() > limit;
+        List<PostSummaryDTO> page = convertToSummaryDTOs(hasNext ? postIds.subList(0, limit) : postIds);
+
+        String nextCursor = null;
+        if (hasNext && !page.isEmpty()) {
+            PostSummaryDTO last = page.get(page.size() - 1);
+            nextCursor = CursorUtil.encode(getKeysetValue(last, sortBy), last.getId());
+        }
+
+        return new CursorPageDTO<>(page, nextCursor, hasNext);
+    }
+
+    private LocalDateTime getKeysetValue(PostSummaryDTO post, String keysetField) {
+        return switch (keysetField) {
+            case "createdAt" -> post.getCreatedAt();
+            case "updatedAt" -> post.getUpdatedAt();
+            default -> post.getPublishedAt();
+        };
     }
 
     /**
@@ -93,20 +192,121 @@ public class PostService {
      * @return PostDTO
      */
     public PostDTO getPostBySlug(String slug) {
+        // Concurrent misses on one slug share a single load
+        PostDTO cached = postCache.getOrLoad(slug, this::loadCachedDTO);
+
+        // Never hand out the cached instance itself
+        PostDTO dto = new PostDTO();
+        BeanUtils.copyProperties(cached, dto);
+        dto.setCategories(new HashSet<>(cached.getCategories()));
+        dto.setTags(new HashSet<>(cached.getTags()));
+        dto.setViewsCount(dto.getViewsCount() + (int) postViewCounter.getRecordedViews(dto.getId()));
+        return dto;
+    }
+
+    /**
+     * Load a post for the post cache. Its view count is a baseline that
+     * excludes the views this instance had flushed when it was read, so the
+     * cached copy stays correct across view flushes.
+     * 
+     * @param slug Post slug
+     * @return PostDTO to cache
+     */
+    private PostDTO loadCachedDTO(String slug) {
+        long marker = postViewCounter.beginRead();
         Post post = postRepository.findBySlug(slug)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Post not found"));
-        return convertToDTO(post);
+
+        PostDTO dto = assembleDTO(post);
+        dto.setViewsCount((int) postViewCounter.toBaselineViews(post.getId(), post.getViewsCount(), marker));
+        return dto;
+    }
+
+    /**
+     * Get the version of a post by slug, for answering conditional requests.
+     * Served from the post cache when possible, otherwise with a query that
+     * does not load the post content.
+     * 
+     * @param slug Post slug
+     * @return Post ID and last modification time
+     */
+    public PostVersion getPostVersionBySlug(String slug) {
+        PostDTO cached = postCache.getBySlug(slug);
+        if (cached != null) {
+            return new PostVersion(cached.getId(), cached.getUpdatedAt());
+        }
+
+        return postRepository.findVersionBySlug(slug)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Post not found"));
+    }
+
+    /**
+     * Search posts of any status, ordered by relevance
+     * 
+     * @param query    Search query
+     * @param pageable Pagination information (sort is ignored)
+     * @return Paginated list of PostSummaryDTOs with snippets
+     */
+    @Transactional(readOnly = true)
+    public Page<PostSummaryDTO> searchPosts(String query, Pageable pageable) {
+        return search(query, null, pageable);
     }
 
     /**
-     * Search posts
+     * Search published posts, ordered by relevance. Served from the in-memory
+     * index when it is enabled and built (without snippets), otherwise from
+     * PostgreSQL.
      * 
      * @param query    Search query
+     * @param pageable Pagination information (sort is ignored)
+     * @return Paginated list of PostSummaryDTOs
+     */
+    @Transactional(readOnly = true)
+    public Page<PostSummaryDTO> searchPublishedPosts(String query, Pageable pageable) {
+        if (!postSearchIndex.isReady()) {
+            return search(query, "PUBLISHED", pageable);
+        }
+
+        PostSearchIndex.Result result = postSearchIndex.search(query, pageable.getOffset(), pageable.getPageSize());
+        if (result.ids().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, result.total());
+        }
+
+        // Summaries keep the rank order of the IDs
+        return new PageImpl<>(convertToSummaryDTOs(result.ids()), pageable, result.total());
+    }
+
+    /**
+     * Run a ranked full-text search. Title matches rank above excerpt matches,
+     * which rank above content matches; every term is matched as a prefix.
+     * 
+     * @param query    Search query
+     * @param status   Status to restrict to, or null for all posts
      * @param pageable Pagination information
-     * @return Paginated list of PostDTOs
+     * @return Paginated list of PostSummaryDTOs with snippets
      */
-    public Page<PostDTO> searchPosts(String query, Pageable pageable) {
-        return postRepository.search(query, pageable).map(this::convertToDTO);
+    private Page<PostSummaryDTO> search(String query, String status, Pageable pageable) {
+        String tsQuery = SearchUtils.toPrefixTsQuery(query);
+        if (tsQuery == null) {
+            return Page.empty(pageable);
+        }
+
+        List<PostSearchHit> hits = postRepository.searchRanked(tsQuery, status, pageable.getPageSize(),
+                pageable.getOffset());
+        if (hits.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, postRepository.countSearchMatches(tsQuery, status));
+        }
+
+        // Summaries keep the rank order of the hits
+        List<PostSummaryDTO> results = convertToSummaryDTOs(hits.stream().map(PostSearchHit::getId).toList());
+        Map<UUID, String> snippets = new HashMap<>();
+        hits.forEach(hit -> snippets.put(hit.getId(), hit.getSnippet()));
+        results.forEach(dto -> dto.setSnippet(snippets.get(dto.getId())));
+
+        long total = hits.size() < pageable.getPageSize() && pageable.getOffset() == 0
+                ? hits.size()
+                : postRepository.countSearchMatches(tsQuery, status);
+        return new PageImpl<>(results, pageable, total);
     }
 
     /**
@@ -114,22 +314,46 @@ public class PostService {
      * 
      * @param categoryId Category ID
      * @param pageable   Pagination information
-     * @return Paginated list of PostDTOs
+     * @return Paginated list of PostSummaryDTOs
+     */
+    @Transactional(readOnly = true)
+    public Page<PostSummaryDTO> getPostsByCategory(UUID categoryId, Pageable pageable) {
+        return toSummaryPage(postRepository.findIdsByCategoryId(categoryId, pageable));
+    }
+
+    /**
+     * Get published posts in a category or any of its subcategories, newest
+     * first
+     * 
+     * @param categoryId Root category ID
+     * @param pageable   Pagination information (sort is ignored)
+     * @return Paginated list of PostSummaryDTOs
      */
-    public Page<PostDTO> getPostsByCategory(UUID categoryId, Pageable pageable) {
-        return postRepository.findByCategoryId(categoryId, pageable).map(this::convertToDTO);
+    @Transactional(readOnly = true)
+    public Page<PostSummaryDTO> getPublishedPostsInCategoryTree(UUID categoryId, Pageable pageable) {
+        return toSummaryPage(postRepository.findPublishedIdsInCategorySubtree(categoryId, pageable));
     }
 
     /**
      * Get featured posts
      * 
      * @param pageable Pagination information
-     * @return List of featured PostDTOs
+     * @return List of featured PostSummaryDTOs
      */
-    public List<PostDTO> getFeaturedPosts(Pageable pageable) {
-        return postRepository.findFeaturedPosts(pageable).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public List<PostSummaryDTO> getFeaturedPosts(Pageable pageable) {
+        return convertToSummaryDTOs(postRepository.findFeaturedPostIds(pageable));
+    }
+
+    /**
+     * Get featured published posts
+     * 
+     * @param pageable Pagination information
+     * @return List of featured published PostSummaryDTOs
+     */
+    @Transactional(readOnly = true)
+    public List<PostSummaryDTO> getFeaturedPublishedPosts(Pageable pageable) {
+        return convertToSummaryDTOs(postRepository.findFeaturedPublishedPostIds(pageable));
     }
 
     /**
@@ -138,8 +362,12 @@ public class PostService {
      * @param postCreateDTO Post creation data
      * @return Created PostDTO
      */
-    @Transactional
     public PostDTO createPost(PostCreateDTO postCreateDTO) {
+        return slugAllocator.retryOnConflict(
+                () -> new TransactionTemplate(transactionManager).execute(status -> doCreatePost(postCreateDTO)));
+    }
+
+    private PostDTO doCreatePost(PostCreateDTO postCreateDTO) {
         Post post = new Post();
         User author = userRepository.findById(postCreateDTO.getAuthorId())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Author not found"));
@@ -176,39 +404,23 @@ public class PostService {
 
         // Add categories if present
         if (postCreateDTO.getCategoryIds() != null && !postCreateDTO.getCategoryIds().isEmpty()) {
-            Set<Category> categories = postCreateDTO.getCategoryIds().stream()
-                    .map(id -> categoryRepository.findById(id)
-                            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
-                                    "Category not found with ID: " + id)))
-                    .collect(Collectors.toSet());
-            post.setCategories(categories);
+            post.setCategories(findAllOrThrow(categoryRepository, postCreateDTO.getCategoryIds(), "Category"));
         }
 
         // Add tags if present
         if (postCreateDTO.getTagIds() != null && !postCreateDTO.getTagIds().isEmpty()) {
-            Set<Tag> tags = postCreateDTO.getTagIds().stream()
-                    .map(id -> tagRepository.findById(String.valueOf(id))
-                            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
-                                    "Tag not found with ID: " + id)))
-                    .collect(Collectors.toSet());
-            post.setTags(tags);
+            post.setTags(findAllOrThrow(tagRepository, postCreateDTO.getTagIds(), "Tag"));
         }
 
+        Post savedPost = postRepository.save(post);
+
         // Create initial revision
-        PostRevision revision = new PostRevision();
-        revision.setPost(post);
-        revision.setTitle(post.getTitle());
-        revision.setContent(post.getContent());
-        revision.setExcerpt(post.getExcerpt());
-        revision.setRevisionNumber(1);
-        revision.setCreatedBy(author);
-        revision.setCreatedAt(LocalDateTime.now());
-
-        Set<PostRevision> revisions = new HashSet<>();
-        revisions.add(revision);
-        post.setRevisions(revisions);
+        postRevisionStore.record(savedPost, author);
+        relatedPostsGraph.markDirtyAfterCommit(savedPost.getId());
+        postStatistics.postCreatedAfterCommit(savedPost.getStatus());
 
-        Post savedPost = postRepository.save(post);
+        postCache.evictAfterCommit(savedPost.getId(), savedPost.getSlug());
+        postSearchIndex.indexAfterCommit(savedPost);
         return convertToDTO(savedPost);
     }
 
@@ -220,10 +432,16 @@ public class PostService {
      * @param currentUser   Current authenticated user
      * @return Updated PostDTO
      */
-    @Transactional
     public PostDTO updatePost(UUID id, PostUpdateDTO postUpdateDTO, User currentUser) {
+        return slugAllocator.retryOnConflict(() -> new TransactionTemplate(transactionManager)
+                .execute(status -> doUpdatePost(id, postUpdateDTO, currentUser)));
+    }
+
+    private PostDTO doUpdatePost(UUID id, PostUpdateDTO postUpdateDTO, User currentUser) {
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Post not found"));
+        String previousSlug = post.getSlug();
+        String previousStatus = post.getStatus();
 
         // Check if status changed from draft to published
         boolean publishNow = !post.getStatus().equals("PUBLISHED") &&
@@ -255,38 +473,36 @@ public class PostService {
         post.setUpdatedAt(LocalDateTime.now());
 
         // Update categories if present
+        boolean taxonomyChanged = false;
         if (postUpdateDTO.getCategoryIds() != null) {
-            Set<Category> categories = postUpdateDTO.getCategoryIds().stream()
-                    .map(catId -> categoryRepository.findById(catId)
-                            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
-                                    "Category not found with ID: " + catId)))
-                    .collect(Collectors.toSet());
-            post.setCategories(categories);
+            taxonomyChanged |= !idsOf(post.getCategories()).equals(postUpdateDTO.getCategoryIds());
+            post.setCategories(findAllOrThrow(categoryRepository, postUpdateDTO.getCategoryIds(), "Category"));
         }
 
         // Update tags if present
         if (postUpdateDTO.getTagIds() != null) {
-            Set<Tag> tags = postUpdateDTO.getTagIds().stream()
-                    .map(tagId -> tagRepository.findById(tagId)
-                            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
-                                    "Tag not found with ID: " + tagId)))
-                    .collect(Collectors.toSet());
-            post.setTags(tags);
+            taxonomyChanged |= !idsOf(post.getTags()).equals(postUpdateDTO.getTagIds());
+            post.setTags(findAllOrThrow(tagRepository, postUpdateDTO.getTagIds(), "Tag"));
         }
 
+        Post savedPost = postRepository.save(post);
+
         // Create new revision
-        PostRevision revision = new PostRevision();
-        revision.setPost(post);
-        revision.setTitle(post.getTitle());
-        revision.setContent(post.getContent());
-        revision.setExcerpt(post.getExcerpt());
-        revision.setRevisionNumber(post.getRevisions().size() + 1);
-        revision.setCreatedBy(currentUser);
-        revision.setCreatedAt(LocalDateTime.now());
+        postRevisionStore.record(savedPost, currentUser);
 
-        post.getRevisions().add(revision);
+        // Relatedness only depends on categories, tags and status
+        if (taxonomyChanged || !previousStatus.equals(savedPost.getStatus())) {
+            relatedPostsGraph.markDirtyAfterCommit(savedPost.getId());
+        }
+        postStatistics.postUpdatedAfterCommit(savedPost.getId(), previousStatus, savedPost.getStatus());
 
-        Post savedPost = postRepository.save(post);
+        if (previousSlug.equals(savedPost.getSlug())) {
+            postCache.refreshAfterCommit(savedPost.getId(), previousSlug);
+        } else {
+            postCache.evictAfterCommit(savedPost.getId(), previousSlug, savedPost.getSlug());
+        }
+        postPayloadStore.invalidateAfterCommit(savedPost.getId());
+        postSearchIndex.indexAfterCommit(savedPost);
         return convertToDTO(savedPost);
     }
 
@@ -299,46 +515,46 @@ public class PostService {
     public void deletePost(UUID id) {
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Post not found"));
+        relatedPostsGraph.markDirtyAfterCommit(post.getId());
         postRepository.delete(post);
+        postStatistics.postDeletedAfterCommit(post.getId(), post.getStatus());
+        postCache.evictAfterCommit(post.getId(), post.getSlug());
+        postPayloadStore.invalidateAfterCommit(post.getId());
+        postSearchIndex.removeAfterCommit(post.getId());
     }
 
     /**
-     * Increment the view count for a post
+     * Increment the view count for a post. The view is buffered in memory and
+     * written to the database by {@link PostViewCounter#flush()}.
      * 
      * @param id Post ID
-     * @return Updated view count
      */
-    @Transactional
-    public int incrementViewCount(UUID id) {
-        Post post = postRepository.findById(id)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Post not found"));
-
-        post.setViewsCount(post.getViewsCount() + 1);
-        postRepository.save(post);
-
-        return post.getViewsCount();
+    public void incrementViewCount(UUID id) {
+        postViewCounter.increment(id);
     }
 
     /**
-     * Get related posts based on categories
+     * Get related posts from the precomputed graph, see
+     * {@link RelatedPostsGraph}
      * 
      * @param postId Post ID
-     * @param limit  Maximum number of posts to return
-     * @return List of related PostDTOs
+     * @param limit  Maximum number of posts to return, capped at the graph's
+     *               top-K
+     * @return List of related PostSummaryDTOs
      */
-    public List<PostDTO> getRelatedPosts(UUID postId, int limit) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Post not found"));
+    @Transactional(readOnly = true)
+    public List<PostSummaryDTO> getRelatedPosts(UUID postId, int limit) {
+        if (!postRepository.existsById(postId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Post not found");
+        }
 
-        // Return empty list if post has no categories
-        if (post.getCategories() == null || post.getCategories().isEmpty()) {
+        List<UUID> relatedIds = relatedPostsGraph.getRelatedPostIds(postId, limit);
+        if (relatedIds.isEmpty()) {
             return List.of();
         }
 
-        var pageable = PageableUtil.createPageRequest(0, limit, "publishedAt", "desc");
-        return postRepository.findRelatedPosts(postId, pageable).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        // Keep the precomputed order
+        return convertToSummaryDTOs(relatedIds);
     }
 
     /**
@@ -349,54 +565,75 @@ public class PostService {
     public Map<String, Object> getPostStatistics() {
         Map<String, Object> stats = new HashMap<>();
 
-        stats.put("totalPosts", postRepository.count());
-        stats.put("publishedPosts", postRepository.countPublishedPosts());
-        stats.put("draftPosts", postRepository.countDraftPosts());
-
-        // Get most viewed posts
-        var pageable = PageableUtil.createPageRequest(0, 5, "viewsCount", "desc");
-        List<PostDTO> mostViewedPosts = postRepository.findAll(pageable).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        // Served from the maintained counters, see PostStatistics
+        Map<String, Long> statusCounts = postStatistics.getStatusCounts();
+        stats.put("totalPosts", postStatistics.getTotalCount());
+        stats.put("publishedPosts", statusCounts.getOrDefault("PUBLISHED", 0L));
+        stats.put("draftPosts", statusCounts.getOrDefault("DRAFT", 0L));
+
+        // Posts are only loaded when the ranking changes
+        List<PostDTO> mostViewedPosts = postStatistics.getMostViewed(postIds -> {
+            Map<UUID, Post> postsById = postRepository.findAllById(postIds).stream()
+                    .collect(Collectors.toMap(Post::getId, post -> post));
+            return postIds.stream()
+                    .filter(postsById::containsKey)
+                    .map(postsById::get)
+                    .map(this::assembleDTO)
+                    .toList();
+        });
         stats.put("mostViewedPosts", mostViewedPosts);
 
         return stats;
     }
 
     /**
-     * Get revisions for a post
+     * Get the revision history of a post, newest first. Only metadata is
+     * returned; use {@link #getPostRevision(UUID, int)} for a revision's body.
      * 
-     * @param id Post ID
-     * @return List of post revisions
+     * @param id       Post ID
+     * @param pageable Pagination information, sort is ignored
+     * @return Page of revision metadata
      */
-    public List<PostRevisionDTO> getPostRevisions(UUID id) {
-        Post post = postRepository.findById(id)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Post not found"));
-
-        if (post.getRevisions() == null || post.getRevisions().isEmpty()) {
-            return List.of();
+    @Transactional(readOnly = true)
+    public Page<PostRevisionSummaryDTO> getPostRevisions(UUID id, Pageable pageable) {
+        if (!postRepository.existsById(id)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Post not found");
         }
 
-        return post.getRevisions().stream()
-                .map(this::convertRevisionToDTO)
-                .sorted((r1, r2) -> Integer.compare(r2.getRevisionNumber(), r1.getRevisionNumber())) // Sort by revision
-                                                                                                     // number desc
-                .collect(Collectors.toList());
+        return postRevisionRepository.findSummariesByPostId(id, pageable);
+    }
+
+    /**
+     * Get a single revision of a post with its content
+     * 
+     * @param id             Post ID
+     * @param revisionNumber Revision number
+     * @return PostRevisionDTO
+     */
+    @Transactional(readOnly = true)
+    public PostRevisionDTO getPostRevision(UUID id, int revisionNumber) {
+        PostRevision revision = postRevisionRepository.findByPostIdAndRevisionNumber(id, revisionNumber)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Revision not found"));
+
+        String content = postRevisionStore.getContent(id, revision, new HashMap<>());
+        return convertRevisionToDTO(id, revision, content);
     }
 
     /**
      * Convert PostRevision entity to PostRevisionDTO
      * 
+     * @param postId   Post ID
      * @param revision PostRevision entity
+     * @param content  Restored content of the revision
      * @return PostRevisionDTO
      */
-    private PostRevisionDTO convertRevisionToDTO(PostRevision revision) {
+    private PostRevisionDTO convertRevisionToDTO(UUID postId, PostRevision revision, String content) {
         PostRevisionDTO dto = new PostRevisionDTO();
         dto.setId(revision.getId());
-        dto.setPostId(revision.getPost().getId());
+        dto.setPostId(postId);
         dto.setRevisionNumber(revision.getRevisionNumber());
         dto.setTitle(revision.getTitle());
-        dto.setContent(revision.getContent());
+        dto.setContent(content);
         dto.setExcerpt(revision.getExcerpt());
         dto.setCreatedAt(revision.getCreatedAt());
 
@@ -416,6 +653,18 @@ public class PostService {
      * @return PostDTO
      */
     public PostDTO convertToDTO(Post post) {
+        PostDTO dto = assembleDTO(post);
+        dto.setViewsCount(post.getViewsCount() + (int) postViewCounter.getPendingViews(post.getId()));
+        return dto;
+    }
+
+    /**
+     * Build a PostDTO from the persisted state only, without pending views
+     * 
+     * @param post Post entity
+     * @return PostDTO
+     */
+    private PostDTO assembleDTO(Post post) {
         PostDTO dto = new PostDTO();
         dto.setId(post.getId());
         dto.setTitle(post.getTitle());
@@ -459,6 +708,71 @@ public class PostService {
         return dto;
     }
 
+    /**
+     * Convert a page of post IDs to PostSummaryDTOs, keeping the page metadata
+     * 
+     * @param page Page of post IDs
+     * @return Page of PostSummaryDTOs
+     */
+    private Page<PostSummaryDTO> toSummaryPage(Page<UUID> page) {
+        return new PageImpl<>(convertToSummaryDTOs(page.getContent()), page.getPageable(), page.getTotalElements());
+    }
+
+    /**
+     * Load PostSummaryDTOs for post IDs. The listing columns with the author,
+     * the categories and the tags are loaded with one query each for the
+     * whole list, so the number of statements does not grow with the list
+     * size, and the content body is never read.
+     * 
+     * @param postIds Post IDs
+     * @return PostSummaryDTOs in the same order, skipping posts that no longer
+     *         exist
+     */
+    public List<PostSummaryDTO> convertToSummaryDTOs(List<UUID> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, PostSummaryRow> rows = new HashMap<>();
+        for (PostSummaryRow row : postRepository.findSummaryRowsByIds(postIds)) {
+            rows.put(row.id(), row);
+        }
+
+        Map<UUID, Set<CategoryDTO>> categories = new HashMap<>();
+        for (Object[] row : postRepository.findCategoriesByPostIds(postIds)) {
+            categories.computeIfAbsent((UUID) row[0], id -> new HashSet<>())
+                    .add(convertCategoryToDTO((Category) row[1]));
+        }
+
+        Map<UUID, Set<TagDTO>> tags = new HashMap<>();
+        for (Object[] row : postRepository.findTagsByPostIds(postIds)) {
+            tags.computeIfAbsent((UUID) row[0], id -> new HashSet<>())
+                    .add(convertTagToDTO((Tag) row[1]));
+        }
+
+        return postIds.stream().map(rows::get).filter(row -> row != null).map(row -> {
+            PostSummaryDTO dto = new PostSummaryDTO();
+            dto.setId(row.id());
+            dto.setTitle(row.title());
+            dto.setSlug(row.slug());
+            dto.setExcerpt(row.excerpt());
+            dto.setFeaturedImageUrl(row.featuredImageUrl());
+            dto.setStatus(row.status());
+            dto.setPublishedAt(row.publishedAt());
+            dto.setFeatured(row.featured());
+            dto.setViewsCount(row.viewsCount() + (int) postViewCounter.getPendingViews(row.id()));
+            dto.setCreatedAt(row.createdAt());
+            dto.setUpdatedAt(row.updatedAt());
+            dto.setAuthorId(row.authorId());
+            dto.setAuthorUsername(row.authorUsername());
+            dto.setAuthorFullName(row.authorFullName());
+
+            dto.setCategories(categories.getOrDefault(row.id(), new HashSet<>()));
+            dto.setTags(tags.getOrDefault(row.id(), new HashSet<>()));
+            return dto;
+        }).toList();
+    }
+
     /**
      * Convert Category entity to CategoryDTO
      * 
@@ -482,44 +796,46 @@ public class PostService {
      */
     private TagDTO convertTagToDTO(Tag tag) {
         TagDTO dto = new TagDTO();
-        dto.setId(tag.getId());
+        dto.setId(tag.getId().toString());
         dto.setName(tag.getName());
         dto.setSlug(tag.getSlug());
         return dto;
     }
 
+    /**
+     * Load entities by ID in a single query, failing if any ID does not exist
+     * 
+     * @param <T>        Entity type
+     * @param repository Repository to load from
+     * @param ids        IDs to load
+     * @param entityName Entity name used in the error message
+     * @return Loaded entities
+     * @throws ResponseStatusException NOT_FOUND listing every missing ID
+     */
+    private static Set<UUID> idsOf(Set<? extends BaseEntity> entities) {
+        return entities.stream().map(BaseEntity::getId).collect(Collectors.toSet());
+    }
+
+    private <T extends BaseEntity> Set<T> findAllOrThrow(JpaRepository<T, UUID> repository, Set<UUID> ids,
+            String entityName) {
+        List<T> found = repository.findAllById(ids);
+        if (found.size() < ids.size()) {
+            Set<UUID> missing = new HashSet<>(ids);
+            found.forEach(entity -> missing.remove(entity.getId()));
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND,
+                    entityName + " not found with ID: " + missing.stream()
+                            .map(UUID::toString)
+                            .collect(Collectors.joining(", ")));
+        }
+        return new HashSet<>(found);
+    }
+
     /**
      * Ensure slug is unique by appending a number if needed
      * 
      * @param post Post to update with unique slug
      */
     private void ensureUniqueSlug(Post post) {
-        String baseSlug = post.getSlug();
-        String currentSlug = baseSlug;
-        int counter = 1;
-
-        while (true) {
-            // Check if this is an existing post being updated
-            if (post.getId() != null) {
-                // For existing posts, we need to check slugs except our own
-                boolean exists = postRepository.findBySlug(currentSlug)
-                        .map(existingPost -> !existingPost.getId().equals(post.getId()))
-                        .orElse(false);
-
-                if (!exists) {
-                    break;
-                }
-            } else {
-                // For new posts, just check if slug exists
-                if (!postRepository.existsBySlug(currentSlug)) {
-                    break;
-                }
-            }
-
-            // Append counter to slug
-            currentSlug = baseSlug + "-" + counter++;
-        }
-
-        post.setSlug(currentSlug);
+        post.setSlug(slugAllocator.allocate(SlugTable.POSTS, post.getSlug(), post.getId()));
     }
 }
\ No newline at end of file
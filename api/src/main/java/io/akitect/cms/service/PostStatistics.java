@@ -0,0 +1,323 @@
+package io.akitect.cms.service;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.akitect.cms.dto.PostDTO;
+import io.akitect.cms.util.TransactionUtils;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Denormalized post statistics for the admin dashboard.
+ *
+ * Post counts per status are adjusted from post lifecycle events after
+ * commit, and the most viewed posts are kept in a bounded min-heap fed by
+ * {@link PostViewCounter} flushes. Both are published as immutable snapshots,
+ * so dashboard reads never query the posts table. A periodic reconciliation
+ * recounts from the database to correct any drift; lifecycle events that a
+ * reconciliation may already have counted are ignored.
+ *
+ * Only events of this instance are applied between reconciliations. With
+ * several instances, changes made on the others show up at the next
+ * reconciliation, so its interval bounds how stale the dashboard can be.
+ */
+@Component
+@Slf4j
+public class PostStatistics {
+
+    @Value("${akitect.cms.statistics.most-viewed-size:5}")
+    private int mostViewedSize;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * View count of one post in the most viewed ranking
+     *
+     * @param postId Post ID
+     * @param views  Persisted view count
+     */
+    private record Ranked(UUID postId, long views) {
+    }
+
+    /**
+     * Assembled posts of the current ranking, reused while its members and
+     * their order stay the same
+     */
+    private record RankedPosts(List<UUID> postIds, List<PostDTO> posts) {
+    }
+
+    // Guarded by this; heap head is the least viewed of the top posts
+    private final PriorityQueue<Ranked> mostViewedHeap = new PriorityQueue<>(Comparator.comparingLong(Ranked::views));
+    private final Map<UUID, Ranked> mostViewedById = new HashMap<>();
+
+    private volatile Map<String, Long> statusCounts;
+    private volatile List<Ranked> mostViewed = List.of();
+    private volatile RankedPosts rankedPosts;
+
+    // Bumped by every reconciliation, guarded by this; see adjustStatusCount
+    private long generation;
+
+    /**
+     * Count posts per status and rank the most viewed posts from the database
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${akitect.cms.statistics.reconcile-interval-ms:60000}",
+            initialDelayString = "${akitect.cms.statistics.reconcile-interval-ms:60000}")
+    public synchronized void reconcile() {
+        generation++;
+
+        Map<String, Long> counts = new HashMap<>();
+        jdbcTemplate.query("SELECT status, COUNT(*) FROM posts GROUP BY status",
+                rs -> {
+                    counts.put(rs.getString(1), rs.getLong(2));
+                });
+
+        List<Ranked> top = findMostViewed();
+
+        Map<String, Long> previous = statusCounts;
+        if (previous != null && !previous.equals(Map.copyOf(counts))) {
+            log.info("Corrected post status counts from {} to {}", previous, counts);
+        }
+
+        statusCounts = Map.copyOf(counts);
+        mostViewedHeap.clear();
+        mostViewedById.clear();
+        top.forEach(this::offer);
+        publishMostViewed();
+    }
+
+    /**
+     * Get the number of posts per status
+     *
+     * @return Immutable map of status to post count
+     */
+    public Map<String, Long> getStatusCounts() {
+        Map<String, Long> counts = statusCounts;
+        if (counts == null) {
+            reconcile();
+            counts = statusCounts;
+        }
+        return counts;
+    }
+
+    /**
+     * Get the total number of posts
+     *
+     * @return Sum of the per-status counts
+     */
+    public long getTotalCount() {
+        return getStatusCounts().values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Get the most viewed posts, most viewed first. Posts are assembled by the
+     * loader only when the ranking's members or order change; otherwise the
+     * previous posts are returned with current view counts.
+     *
+     * @param loader Assembles posts for post IDs, in the given order
+     * @return Most viewed posts
+     */
+    public List<PostDTO> getMostViewed(Function<List<UUID>, List<PostDTO>> loader) {
+        List<Ranked> ranking = mostViewed;
+        List<UUID> postIds = ranking.stream().map(Ranked::postId).toList();
+
+        RankedPosts posts = rankedPosts;
+        if (posts == null || !posts.postIds().equals(postIds)) {
+            posts = new RankedPosts(postIds, loader.apply(postIds));
+            rankedPosts = posts;
+        }
+
+        Map<UUID, Long> views = new HashMap<>();
+        ranking.forEach(ranked -> views.put(ranked.postId(), ranked.views()));
+
+        // Never hand out the cached instances themselves
+        return posts.posts().stream()
+                .map(post -> {
+                    PostDTO copy = new PostDTO();
+                    BeanUtils.copyProperties(post, copy);
+                    copy.setCategories(new HashSet<>(post.getCategories()));
+                    copy.setTags(new HashSet<>(post.getTags()));
+                    copy.setViewsCount(views.getOrDefault(post.getId(), (long) post.getViewsCount()).intValue());
+                    return copy;
+                })
+                .toList();
+    }
+
+    /**
+     * Count a new post once the current transaction commits
+     *
+     * @param status Status of the new post
+     */
+    public void postCreatedAfterCommit(String status) {
+        long stamp = stamp();
+        TransactionUtils.afterCommit(() -> adjustStatusCount(stamp, status, 1));
+    }
+
+    /**
+     * Record an updated post once the current transaction commits
+     *
+     * @param postId         Post ID
+     * @param previousStatus Status before the update
+     * @param status         Status after the update
+     */
+    public void postUpdatedAfterCommit(UUID postId, String previousStatus, String status) {
+        long stamp = stamp();
+        TransactionUtils.afterCommit(() -> {
+            if (!previousStatus.equals(status)) {
+                adjustStatusCount(stamp, previousStatus, -1);
+                adjustStatusCount(stamp, status, 1);
+            }
+            invalidatePost(postId);
+        });
+    }
+
+    /**
+     * Remove a deleted post from the statistics once the current transaction
+     * commits
+     *
+     * @param postId Post ID
+     * @param status Status of the deleted post
+     */
+    public void postDeletedAfterCommit(UUID postId, String status) {
+        long stamp = stamp();
+        TransactionUtils.afterCommit(() -> {
+            adjustStatusCount(stamp, status, -1);
+            removeFromMostViewed(postId);
+        });
+    }
+
+    /**
+     * Re-rank posts whose views were just flushed to the database. Never
+     * throws, so a failure cannot make the caller retry the flush.
+     *
+     * @param postIds IDs of the flushed posts
+     */
+    public void viewsFlushed(Collection<UUID> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+
+        List<Ranked> flushed;
+        try {
+            flushed = jdbcTemplate.query("SELECT id, views_count FROM posts WHERE id = ANY(?)",
+                    ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", postIds.toArray())),
+                    (rs, rowNum) -> new Ranked(rs.getObject(1, UUID.class), rs.getLong(2)));
+        } catch (RuntimeException e) {
+            // The views are already persisted; the ranking catches up at the next reconciliation
+            log.warn("Failed to re-rank {} posts after a view flush: {}", postIds.size(), e.getMessage());
+            return;
+        }
+
+        synchronized (this) {
+            flushed.forEach(this::offer);
+            publishMostViewed();
+        }
+    }
+
+    /**
+     * Take the stamp of a change before it commits. Taken under the lock that
+     * reconciliation holds for its whole count, so a stamp that matches after
+     * commit means no reconciliation counted the change.
+     */
+    private synchronized long stamp() {
+        return generation;
+    }
+
+    /**
+     * Apply a committed change to the status counts, unless a reconciliation
+     * ran since the change was registered: its count may already include the
+     * change, and the next reconciliation corrects it if not.
+     */
+    private synchronized void adjustStatusCount(long stamp, String status, long delta) {
+        if (statusCounts == null) {
+            // Not counted yet; the first read reconciles from the database
+            return;
+        }
+        if (stamp != generation) {
+            return;
+        }
+
+        Map<String, Long> counts = new HashMap<>(statusCounts);
+        counts.merge(status, delta, Long::sum);
+        counts.values().removeIf(count -> count <= 0);
+        statusCounts = Map.copyOf(counts);
+    }
+
+    private void removeFromMostViewed(UUID postId) {
+        synchronized (this) {
+            Ranked ranked = mostViewedById.remove(postId);
+            if (ranked == null) {
+                return;
+            }
+            mostViewedHeap.remove(ranked);
+            publishMostViewed();
+        }
+
+        // Fill the freed place; the deleted post is committed away, so it is not read back
+        List<Ranked> top;
+        try {
+            top = findMostViewed();
+        } catch (RuntimeException e) {
+            log.warn("Failed to refill the most viewed posts, reconciliation will: {}", e.getMessage());
+            return;
+        }
+
+        synchronized (this) {
+            top.forEach(this::offer);
+            publishMostViewed();
+        }
+    }
+
+    private List<Ranked> findMostViewed() {
+        return jdbcTemplate.query(
+                "SELECT id, views_count FROM posts ORDER BY views_count DESC, id LIMIT ?",
+                (rs, rowNum) -> new Ranked(rs.getObject(1, UUID.class), rs.getLong(2)), mostViewedSize);
+    }
+
+    private void invalidatePost(UUID postId) {
+        RankedPosts ranked = rankedPosts;
+        if (ranked != null && ranked.postIds().contains(postId)) {
+            rankedPosts = null;
+        }
+    }
+
+    // Callers hold the lock
+    private void offer(Ranked ranked) {
+        Ranked existing = mostViewedById.remove(ranked.postId());
+        if (existing != null) {
+            mostViewedHeap.remove(existing);
+        } else if (mostViewedHeap.size() >= mostViewedSize) {
+            if (mostViewedHeap.peek().views() >= ranked.views()) {
+                return;
+            }
+            mostViewedById.remove(mostViewedHeap.poll().postId());
+        }
+
+        mostViewedHeap.add(ranked);
+        mostViewedById.put(ranked.postId(), ranked);
+    }
+
+    // Callers hold the lock
+    private void publishMostViewed() {
+        mostViewed = mostViewedHeap.stream()
+                .sorted(Comparator.comparingLong(Ranked::views).reversed().thenComparing(Ranked::postId))
+                .toList();
+    }
+}
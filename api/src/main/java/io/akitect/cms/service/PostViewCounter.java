@@ -0,0 +1,176 @@
+package io.akitect.cms.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Write-behind counter for public post views.
+ *
+ * Each post has a striped {@link LongAdder} of the views recorded on this
+ * instance and the number of those views already written to the database.
+ * Views are periodically flushed as a single JDBC batch of
+ * {@code UPDATE posts SET views_count = views_count + ?} statements, so a hot
+ * article no longer costs a row lock and a full entity save per page view.
+ *
+ * Recording a view never takes a lock. The flushed count only moves once the
+ * batch has committed, so the pending views of a post never drop before the
+ * database holds them. Cached posts keep a baseline that excludes the views
+ * flushed before they were loaded (see {@link #toBaselineViews}), so they
+ * stay correct across flushes without being reloaded.
+ */
+@Component
+@Slf4j
+public class PostViewCounter {
+
+    private static final String FLUSH_SQL = "UPDATE posts SET views_count = views_count + ? WHERE id = ?";
+
+    private static final int MAX_BASELINE_READS = 3;
+
+    private static final class Counter {
+        private final LongAdder recorded = new LongAdder();
+        private final AtomicLong flushed = new AtomicLong();
+    }
+
+    private final Map<UUID, Counter> counters = new ConcurrentHashMap<>();
+
+    // Odd while a flush is writing, so readers can tell that a view count raced with one
+    private final AtomicLong flushSequence = new AtomicLong();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PostStatistics postStatistics;
+
+    /**
+     * Record one view for a post
+     *
+     * @param postId Post ID
+     */
+    public void increment(UUID postId) {
+        Counter counter = counters.get(postId);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(postId, id -> new Counter());
+        }
+        counter.recorded.increment();
+    }
+
+    /**
+     * Get the number of views recorded but not yet written to the database
+     *
+     * @param postId Post ID
+     * @return Pending view delta
+     */
+    public long getPendingViews(UUID postId) {
+        Counter counter = counters.get(postId);
+        return counter == null ? 0 : counter.recorded.sum() - counter.flushed.get();
+    }
+
+    /**
+     * Get the number of views recorded on this instance, flushed or not
+     *
+     * @param postId Post ID
+     * @return Recorded views
+     */
+    public long getRecordedViews(UUID postId) {
+        Counter counter = counters.get(postId);
+        return counter == null ? 0 : counter.recorded.sum();
+    }
+
+    /**
+     * Take a marker before reading a persisted view count
+     *
+     * @return Marker for {@link #toBaselineViews}
+     */
+    public long beginRead() {
+        return flushSequence.get();
+    }
+
+    /**
+     * Turn a persisted view count into a baseline that excludes the views this
+     * instance had flushed when it was read. Adding
+     * {@link #getRecordedViews} to the baseline gives the current count at
+     * any later time. When a flush overlapped the read, the count is read
+     * again.
+     *
+     * @param postId         Post ID
+     * @param persistedViews View count read from the database
+     * @param marker         Marker taken before the read
+     * @return Baseline view count
+     */
+    public long toBaselineViews(UUID postId, long persistedViews, long marker) {
+        for (int attempt = 1;; attempt++) {
+            Counter counter = counters.get(postId);
+            long flushed = counter == null ? 0 : counter.flushed.get();
+            if ((marker & 1) == 0 && flushSequence.get() == marker) {
+                return persistedViews - flushed;
+            }
+            if (attempt == MAX_BASELINE_READS) {
+                // Flushes keep overlapping: off by at most one flush until the post reloads
+                return persistedViews - flushed;
+            }
+
+            marker = flushSequence.get();
+            Long views = jdbcTemplate.queryForObject("SELECT views_count FROM posts WHERE id = ?", Long.class,
+                    postId);
+            persistedViews = views != null ? views : 0;
+        }
+    }
+
+    /**
+     * Flush pending view deltas to the database in one batch
+     */
+    @Scheduled(fixedDelayString = "${akitect.cms.views.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        List<Object[]> batchArgs = new ArrayList<>();
+        List<Counter> batchCounters = new ArrayList<>();
+
+        counters.forEach((postId, counter) -> {
+            long delta = counter.recorded.sum() - counter.flushed.get();
+            if (delta > 0) {
+                batchArgs.add(new Object[] { delta, postId });
+                batchCounters.add(counter);
+            }
+        });
+
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+
+        flushSequence.incrementAndGet();
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs);
+
+            for (int i = 0; i < batchArgs.size(); i++) {
+                batchCounters.get(i).flushed.addAndGet((Long) batchArgs.get(i)[0]);
+            }
+        } catch (Exception e) {
+            // The deltas stay pending and are retried on the next flush
+            log.warn("Failed to flush view counts, will retry: {}", e.getMessage());
+            return;
+        } finally {
+            flushSequence.incrementAndGet();
+        }
+        log.debug("Flushed view counts for {} posts", batchArgs.size());
+
+        postStatistics.viewsFlushed(batchArgs.stream().map(args -> (UUID) args[1]).toList());
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,214 @@
+package io.akitect.cms.service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.akitect.cms.util.TransactionUtils;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Precomputed related-posts graph, stored as a top-K adjacency list per
+ * published post in {@code post_related}.
+ *
+ * Candidates are published posts that share a category (weight 2) or a tag
+ * (weight 1) with the post, ranked by total weight and then by recency. Lists
+ * are refreshed in the background: posts whose taxonomy or status changed, the
+ * posts that currently list them and the published posts that share a
+ * category or tag with them are marked dirty after commit and recomputed every
+ * {@code akitect.cms.related-posts.refresh-interval-ms}, so a newly published
+ * or re-tagged post shows up in other lists on the next refresh. A full
+ * rebuild runs on startup if the table is empty and then nightly as a safety
+ * net.
+ */
+@Component
+@Slf4j
+public class RelatedPostsGraph {
+
+    private static final double CATEGORY_WEIGHT = 2.0;
+    private static final double TAG_WEIGHT = 1.0;
+
+    // Published posts sharing a category or tag with any of the given posts
+    private static final String SHARING_SQL = "SELECT pc2.post_id FROM post_categories pc1 "
+            + "JOIN post_categories pc2 ON pc2.category_id = pc1.category_id "
+            + "JOIN posts p ON p.id = pc2.post_id AND p.status = 'PUBLISHED' "
+            + "WHERE pc1.post_id = ANY(?) "
+            + "UNION "
+            + "SELECT pt2.post_id FROM post_tags pt1 "
+            + "JOIN post_tags pt2 ON pt2.tag_id = pt1.tag_id "
+            + "JOIN posts p ON p.id = pt2.post_id AND p.status = 'PUBLISHED' "
+            + "WHERE pt1.post_id = ANY(?)";
+
+    private static final String DELETE_SQL = "DELETE FROM post_related WHERE post_id = ?";
+
+    private static final String INSERT_SQL = "INSERT INTO post_related (post_id, rank, related_post_id, score) "
+            + "SELECT CAST(? AS uuid), row_number() OVER (ORDER BY score DESC, published_at DESC NULLS LAST, related_post_id), "
+            + "related_post_id, score "
+            + "FROM ("
+            + "SELECT shared.post_id AS related_post_id, SUM(shared.weight) AS score, p.published_at "
+            + "FROM ("
+            + "SELECT pc2.post_id, CAST(? AS double precision) AS weight FROM post_categories pc1 "
+            + "JOIN post_categories pc2 ON pc2.category_id = pc1.category_id "
+            + "WHERE pc1.post_id = CAST(? AS uuid) AND pc2.post_id <> pc1.post_id "
+            + "UNION ALL "
+            + "SELECT pt2.post_id, CAST(? AS double precision) FROM post_tags pt1 "
+            + "JOIN post_tags pt2 ON pt2.tag_id = pt1.tag_id "
+            + "WHERE pt1.post_id = CAST(? AS uuid) AND pt2.post_id <> pt1.post_id"
+            + ") shared "
+            + "JOIN posts p ON p.id = shared.post_id AND p.status = 'PUBLISHED' "
+            + "WHERE EXISTS (SELECT 1 FROM posts self WHERE self.id = CAST(? AS uuid) AND self.status = 'PUBLISHED') "
+            + "GROUP BY shared.post_id, p.published_at "
+            + "ORDER BY score DESC, p.published_at DESC NULLS LAST, shared.post_id "
+            + "LIMIT ?"
+            + ") ranked";
+
+    @Value("${akitect.cms.related-posts.top-k:10}")
+    private int topK;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final Set<UUID> dirty = ConcurrentHashMap.newKeySet();
+
+    // Changed posts whose category and tag neighbours still have to be marked dirty
+    private final Set<UUID> changed = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Build the graph on startup when it has never been built
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        Boolean empty = jdbcTemplate.queryForObject("SELECT NOT EXISTS (SELECT 1 FROM post_related)", Boolean.class);
+        if (Boolean.TRUE.equals(empty)) {
+            rebuild();
+        }
+    }
+
+    public int getTopK() {
+        return topK;
+    }
+
+    /**
+     * Get the precomputed related posts of a post
+     *
+     * @param postId Post ID
+     * @param limit  Maximum number of posts, at most {@link #getTopK()}
+     * @return IDs of related posts that are still published, best match first
+     */
+    public List<UUID> getRelatedPostIds(UUID postId, int limit) {
+        // Skip posts unpublished since the last refresh before applying the limit
+        return jdbcTemplate.queryForList(
+                "SELECT r.related_post_id FROM post_related r JOIN posts p ON p.id = r.related_post_id "
+                        + "WHERE r.post_id = ? AND p.status = 'PUBLISHED' ORDER BY r.rank LIMIT ?",
+                UUID.class, postId, Math.min(limit, topK));
+    }
+
+    /**
+     * Mark a post whose taxonomy or status changes in the current transaction
+     * for recomputation after commit, together with the posts that currently
+     * list it and, at the next refresh, the posts that share a category or tag
+     * with it. Must be called before the post is deleted.
+     *
+     * @param postId Post ID
+     */
+    public void markDirtyAfterCommit(UUID postId) {
+        List<UUID> listedBy = jdbcTemplate.queryForList(
+                "SELECT post_id FROM post_related WHERE related_post_id = ?", UUID.class, postId);
+        TransactionUtils.afterCommit(() -> {
+            changed.add(postId);
+            dirty.add(postId);
+            dirty.addAll(listedBy);
+        });
+    }
+
+    /**
+     * Recompute the lists of posts marked dirty
+     */
+    @Scheduled(fixedDelayString = "${akitect.cms.related-posts.refresh-interval-ms:30000}")
+    public synchronized void refreshDirty() {
+        markSharingDirty();
+        if (dirty.isEmpty()) {
+            return;
+        }
+
+        int refreshed = 0;
+        for (UUID postId : List.copyOf(dirty)) {
+            dirty.remove(postId);
+            try {
+                refresh(postId);
+                refreshed++;
+            } catch (RuntimeException e) {
+                log.warn("Failed to refresh related posts of {}, will retry: {}", postId, e.getMessage());
+                dirty.add(postId);
+            }
+        }
+        log.debug("Refreshed related posts of {} posts", refreshed);
+    }
+
+    /**
+     * Recompute the lists of all published posts
+     */
+    @Scheduled(cron = "${akitect.cms.related-posts.rebuild-cron:0 30 3 * * *}")
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+
+        // Lists of posts that are no longer published
+        jdbcTemplate.update("DELETE FROM post_related r WHERE NOT EXISTS "
+                + "(SELECT 1 FROM posts p WHERE p.id = r.post_id AND p.status = 'PUBLISHED')");
+
+        List<UUID> postIds = jdbcTemplate.queryForList(
+                "SELECT id FROM posts WHERE status = 'PUBLISHED'", UUID.class);
+        for (UUID postId : postIds) {
+            try {
+                refresh(postId);
+            } catch (RuntimeException e) {
+                log.warn("Failed to compute related posts of {}: {}", postId, e.getMessage());
+            }
+        }
+
+        log.info("Built related posts for {} published posts in {} ms", postIds.size(),
+                System.currentTimeMillis() - start);
+    }
+
+    private void markSharingDirty() {
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        List<UUID> postIds = List.copyOf(changed);
+        changed.removeAll(postIds);
+        try {
+            // Read after commit, so this sees the new categories and tags
+            dirty.addAll(jdbcTemplate.query(SHARING_SQL, ps -> {
+                ps.setArray(1, ps.getConnection().createArrayOf("uuid", postIds.toArray()));
+                ps.setArray(2, ps.getConnection().createArrayOf("uuid", postIds.toArray()));
+            }, (rs, rowNum) -> rs.getObject(1, UUID.class)));
+        } catch (RuntimeException e) {
+            log.warn("Failed to find posts related to {} changed posts, will retry: {}", postIds.size(),
+                    e.getMessage());
+            changed.addAll(postIds);
+        }
+    }
+
+    private void refresh(UUID postId) {
+        String id = postId.toString();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.update(DELETE_SQL, postId);
+            jdbcTemplate.update(INSERT_SQL, id, CATEGORY_WEIGHT, id, TAG_WEIGHT, id, id, topK);
+        });
+    }
+}
@@ -23,8 +23,10 @@ import io.akitect.cms.dto.RoleDTO;
 import io.akitect.cms.dto.RoleUpdateDTO;
 import io.akitect.cms.model.Permission;
 import io.akitect.cms.model.Role;
+import io.akitect.cms.model.User;
 import io.akitect.cms.repository.PermissionRepository;
 import io.akitect.cms.repository.RoleRepository;
+import io.akitect.cms.security.UserDetailsServiceImpl;
 import jakarta.persistence.criteria.Predicate;
 
 @Service
@@ -36,6 +38,9 @@ public class RoleService {
     @Autowired
     private PermissionRepository permissionRepository;
 
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+
     /**
      * Get all roles with search and pagination
      * 
@@ -172,6 +177,9 @@ public class RoleService {
 
         existingRole.setUpdatedAt(LocalDateTime.now());
         Role updatedRole = roleRepository.save(existingRole);
+
+        // Role name and permissions are baked into the cached principals of its users
+        userDetailsService.evictAfterCommit(updatedRole.getUsers().stream().map(User::getUsername).toList());
         return convertToDTO(updatedRole);
     }
 
@@ -0,0 +1,93 @@
+package io.akitect.cms.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Write-behind tracker for session activity.
+ *
+ * Authenticated requests only record the latest activity time per session
+ * token in memory. A background flush writes the coalesced values as one JDBC
+ * batch, so each session costs at most one update per flush interval instead
+ * of one per request.
+ */
+@Component
+@Slf4j
+public class SessionActivityTracker {
+
+    private static final String FLUSH_SQL = "UPDATE user_sessions SET last_activity = ? "
+            + "WHERE token = ? AND (last_activity IS NULL OR last_activity < ?)";
+
+    private final Map<String, LocalDateTime> pendingActivity = new ConcurrentHashMap<>();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SessionTokens sessionTokens;
+
+    /**
+     * Record activity on a session
+     *
+     * @param token JWT token of the session
+     */
+    public void recordActivity(String token) {
+        pendingActivity.put(sessionTokens.toStoredToken(token), LocalDateTime.now());
+    }
+
+    /**
+     * Get the last activity recorded for a session but not yet written to the
+     * database
+     *
+     * @param storedToken Token as stored in {@code user_sessions.token}
+     * @return Pending activity time, or null if there is none
+     */
+    public LocalDateTime getPendingActivity(String storedToken) {
+        return pendingActivity.get(storedToken);
+    }
+
+    /**
+     * Flush pending activity times to the database in one batch
+     */
+    @Scheduled(fixedDelayString = "${akitect.cms.sessions.activity-flush-interval-ms:30000}")
+    public void flush() {
+        Map<String, LocalDateTime> flushed = new HashMap<>(pendingActivity);
+        if (flushed.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>(flushed.size());
+        flushed.forEach((token, lastActivity) -> {
+            Timestamp timestamp = Timestamp.valueOf(lastActivity);
+            batchArgs.add(new Object[] { timestamp, token, timestamp });
+        });
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs);
+            // Keep entries that were refreshed while the batch was running
+            flushed.forEach((token, lastActivity) -> pendingActivity.remove(token, lastActivity));
+            log.debug("Flushed activity for {} sessions", batchArgs.size());
+        } catch (Exception e) {
+            // Entries stay pending and are retried on the next flush
+            log.warn("Failed to flush session activity, will retry: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
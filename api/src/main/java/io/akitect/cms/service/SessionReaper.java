@@ -0,0 +1,46 @@
+package io.akitect.cms.service;
+
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.akitect.cms.repository.UserSessionRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Periodically deletes sessions that expired or were revoked longer ago than
+ * the retention period. Rows are deleted in bounded chunks, each in its own
+ * short transaction, so the reaper never holds long locks on user_sessions.
+ */
+@Component
+@Slf4j
+public class SessionReaper {
+
+    @Value("${akitect.cms.sessions.retention-days:7}")
+    private int retentionDays;
+
+    @Value("${akitect.cms.sessions.reap-chunk-size:1000}")
+    private int chunkSize;
+
+    @Autowired
+    private UserSessionRepository userSessionRepository;
+
+    @Scheduled(fixedDelayString = "${akitect.cms.sessions.reap-interval-ms:3600000}", initialDelay = 60000)
+    public void reap() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        long total = 0;
+        int deleted;
+
+        do {
+            deleted = userSessionRepository.deleteEndedSessions(cutoff, chunkSize);
+            total += deleted;
+        } while (deleted == chunkSize);
+
+        if (total > 0) {
+            log.info("Deleted {} sessions that ended before {}", total, cutoff);
+        }
+    }
+}
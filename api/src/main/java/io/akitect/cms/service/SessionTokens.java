@@ -0,0 +1,47 @@
+package io.akitect.cms.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps JWTs to the value stored in {@code user_sessions.token}.
+ *
+ * With {@code akitect.cms.sessions.hash-tokens} enabled the column holds the
+ * 64-character SHA-256 hex digest of the token instead of the token itself,
+ * which keeps the unique index narrow and avoids storing usable credentials.
+ */
+@Component
+public class SessionTokens {
+
+    @Value("${akitect.cms.sessions.hash-tokens:false}")
+    private boolean hashTokens;
+
+    public boolean isHashed() {
+        return hashTokens;
+    }
+
+    /**
+     * Get the value stored for a token
+     *
+     * @param token JWT token
+     * @return SHA-256 hex digest of the token when hashing is enabled, otherwise
+     *         the token itself
+     */
+    public String toStoredToken(String token) {
+        if (!hashTokens) {
+            return token;
+        }
+
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
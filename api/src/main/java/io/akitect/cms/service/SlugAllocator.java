@@ -0,0 +1,108 @@
+package io.akitect.cms.service;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Allocates unique slugs for tables with a unique {@code slug} column.
+ *
+ * A free slug is found with a single query: the base slug itself if unused,
+ * otherwise {@code base-N} with N one past the highest numeric suffix in use.
+ * The lookup is a prefix match served by the {@code text_pattern_ops} slug
+ * indexes in schema.sql. Two concurrent writers can still pick the same slug,
+ * so writes should go through {@link #retryOnConflict(Supplier)}, which
+ * repeats the whole transaction when the unique constraint rejects it.
+ */
+@Component
+@Slf4j
+public class SlugAllocator {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    /**
+     * Tables with a unique slug column
+     */
+    public enum SlugTable {
+        POSTS("posts"),
+        CATEGORIES("categories"),
+        TAGS("tags"),
+        SERIES("series");
+
+        private final String tableName;
+
+        SlugTable(String tableName) {
+            this.tableName = tableName;
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Find a free slug derived from the base slug
+     *
+     * @param table     Table the slug must be unique in
+     * @param baseSlug  Desired slug
+     * @param excludeId ID of the row being updated, whose own slug does not
+     *                  count as taken; null for new rows
+     * @return The base slug if free, otherwise the base slug with the next
+     *         free numeric suffix
+     */
+    public String allocate(SlugTable table, String baseSlug, UUID excludeId) {
+        // Suffixes start right after "base-"; substring positions are 1-based
+        int suffixStart = baseSlug.length() + 2;
+        String sql = "SELECT bool_or(slug = ?) AS base_taken, "
+                + "COALESCE(MAX(CASE WHEN slug = ? THEN 0 ELSE CAST(substring(slug FROM ?) AS bigint) END), 0) AS max_suffix "
+                + "FROM " + table.tableName + " "
+                + "WHERE (slug = ? OR (slug LIKE ? ESCAPE '\\' AND substring(slug FROM ?) ~ '^[1-9][0-9]{0,17}$')) "
+                + "AND id IS DISTINCT FROM CAST(? AS uuid)";
+
+        return jdbcTemplate.queryForObject(sql, (rs, rowNum) -> {
+            if (!rs.getBoolean("base_taken")) {
+                return baseSlug;
+            }
+            return baseSlug + "-" + (rs.getLong("max_suffix") + 1);
+        }, baseSlug, baseSlug, suffixStart, baseSlug, escapeLike(baseSlug) + "-%", suffixStart,
+                excludeId != null ? excludeId.toString() : null);
+    }
+
+    /**
+     * Run a write that allocates a slug, repeating it if a concurrent writer
+     * claimed the same slug first. The action must run in its own transaction
+     * so that a rejected attempt is rolled back before the next one.
+     *
+     * @param <T>    Result type
+     * @param action Transactional write
+     * @return Result of the first successful attempt
+     */
+    public <T> T retryOnConflict(Supplier<T> action) {
+        for (int attempt = 1;; attempt++) {
+            try {
+                return action.get();
+            } catch (DataIntegrityViolationException e) {
+                if (attempt == MAX_ATTEMPTS || !isSlugConflict(e)) {
+                    throw e;
+                }
+                log.debug("Slug taken by a concurrent write, retrying (attempt {})", attempt + 1);
+            }
+        }
+    }
+
+    private boolean isSlugConflict(DataIntegrityViolationException e) {
+        // PostgreSQL reports unique violations as "Key (slug)=(...) already exists"
+        String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+        return message != null && message.contains("(slug)");
+    }
+
+    private String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
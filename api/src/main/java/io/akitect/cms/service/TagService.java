@@ -2,6 +2,7 @@ package io.akitect.cms.service;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -15,16 +16,19 @@ import io.akitect.cms.exception.custom.BadRequestException;
 import io.akitect.cms.exception.custom.ResourceNotFoundException;
 import io.akitect.cms.model.Tag;
 import io.akitect.cms.repository.TagRepository;
+import io.akitect.cms.service.SlugAllocator.SlugTable;
 import io.akitect.cms.util.SlugUtil;
 
 @Service
 public class TagService {
 
     private final TagRepository tagRepository;
+    private final SlugAllocator slugAllocator;
 
     @Autowired
-    public TagService(TagRepository tagRepository) {
+    public TagService(TagRepository tagRepository, SlugAllocator slugAllocator) {
         this.tagRepository = tagRepository;
+        this.slugAllocator = slugAllocator;
     }
 
     public List<Tag> getAllTags() {
@@ -35,7 +39,7 @@ public class TagService {
         return tagRepository.findAll(pageable);
     }
 
-    public Tag getTagById(String id) {
+    public Tag getTagById(UUID id) {
         return tagRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Tag not found with id: " + id));
     }
@@ -47,19 +51,16 @@ public class TagService {
 
     @Transactional
     public Tag createTag(TagCreateDTO tagCreateDTO) {
-        // Check if slug is provided or generate it from name
-        String slug = tagCreateDTO.getSlug();
-        if (slug == null || slug.isEmpty()) {
-            slug = SlugUtil.generateSlug(tagCreateDTO.getName());
-        }
-
         // Validate name uniqueness
         if (tagRepository.existsByName(tagCreateDTO.getName())) {
             throw new BadRequestException("Tag with name '" + tagCreateDTO.getName() + "' already exists");
         }
 
-        // Validate slug uniqueness
-        if (tagRepository.existsBySlug(slug)) {
+        // Use the provided slug if it is free, or generate a unique one from the name
+        String slug = tagCreateDTO.getSlug();
+        if (slug == null || slug.isEmpty()) {
+            slug = slugAllocator.allocate(SlugTable.TAGS, SlugUtil.generateSlug(tagCreateDTO.getName()), null);
+        } else if (tagRepository.existsBySlug(slug)) {
             throw new BadRequestException("Tag with slug '" + slug + "' already exists");
         }
 
@@ -73,7 +74,7 @@ public class TagService {
     }
 
     @Transactional
-    public Tag updateTag(String id, TagUpdateDTO tagUpdateDTO) {
+    public Tag updateTag(UUID id, TagUpdateDTO tagUpdateDTO) {
         Tag tag = getTagById(id);
 
         // Handle name update if provided
@@ -115,13 +116,12 @@ public class TagService {
             // Create a new tag if it doesn't exist
             TagCreateDTO createDTO = new TagCreateDTO();
             createDTO.setName(name);
-            createDTO.setSlug(SlugUtil.generateSlug(name));
             return createTag(createDTO);
         }
     }
 
     @Transactional
-    public void deleteTag(String id) {
+    public void deleteTag(UUID id) {
         Tag tag = getTagById(id);
         if (!tag.getPosts().isEmpty()) {
             throw new BadRequestException("Cannot delete tag that is associated with posts");
@@ -2,7 +2,10 @@ package io.akitect.cms.util;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import io.akitect.cms.dto.CategoryDTO;
@@ -12,52 +15,36 @@ public class CategoryMapper {
 
     /**
      * Converts a list of Category entities to a tree structure of CategoryDTOs
+     * in a single pass over a parent id index. Siblings are ordered by display
+     * order; every children list in the result is unmodifiable.
      * 
      * @param categories List of all categories from the database
      * @return List of top-level CategoryDTOs with their children properly nested
      */
     public static List<CategoryDTO> toCategoryTreeDTOs(List<Category> categories) {
-        // Tạo một danh sách riêng để tránh ảnh hưởng đến danh sách gốc
-        List<Category> workingList = new ArrayList<>(categories);
-
-        // Lọc chỉ lấy các danh mục gốc (không có danh mục cha)
-        List<Category> rootCategories = workingList.stream()
-                .filter(cat -> cat.getParent() == null)
-                .collect(Collectors.toList());
-
-        // Ánh xạ các danh mục gốc thành DTO
-        List<CategoryDTO> rootDTOs = rootCategories.stream()
-                .map(root -> convertToTreeDTO(root, workingList))
-                .collect(Collectors.toList());
-
-        // Sắp xếp theo thứ tự hiển thị
-        sortCategoryTreeByDisplayOrder(rootDTOs);
-
-        return rootDTOs;
-    }
-
-    /**
-     * Đệ quy chuyển đổi một danh mục và tất cả con của nó thành cấu trúc cây DTO
-     * mà không gây ra đệ quy vô hạn
-     */
-    private static CategoryDTO convertToTreeDTO(Category category, List<Category> allCategories) {
-        // Tạo DTO cho danh mục hiện tại
-        CategoryDTO dto = toCategoryDTO(category);
-
-        // Tìm tất cả các danh mục con trực tiếp của danh mục hiện tại
-        List<Category> children = allCategories.stream()
-                .filter(c -> c.getParent() != null && category.getId().equals(c.getParent().getId()))
+        // Sắp xếp trước theo thứ tự hiển thị để danh sách con được tạo đúng thứ tự
+        List<CategoryDTO> flat = categories.stream()
+                .map(CategoryMapper::toCategoryDTO)
+                .sorted(Comparator.comparing(CategoryDTO::getDisplayOrder))
                 .collect(Collectors.toList());
 
-        // Ánh xạ đệ quy các danh mục con
-        List<CategoryDTO> childDTOs = children.stream()
-                .map(child -> convertToTreeDTO(child, allCategories))
-                .collect(Collectors.toList());
+        // Gom các danh mục con theo ID của danh mục cha
+        Map<UUID, List<CategoryDTO>> childrenByParentId = new HashMap<>();
+        List<CategoryDTO> roots = new ArrayList<>();
+        for (CategoryDTO dto : flat) {
+            if (dto.getParentId() == null) {
+                roots.add(dto);
+            } else {
+                childrenByParentId.computeIfAbsent(dto.getParentId(), id -> new ArrayList<>()).add(dto);
+            }
+        }
 
-        // Thêm danh sách con vào DTO hiện tại
-        dto.setChildren(childDTOs);
+        // Gắn danh sách con cho từng danh mục
+        for (CategoryDTO dto : flat) {
+            dto.setChildren(List.copyOf(childrenByParentId.getOrDefault(dto.getId(), List.of())));
+        }
 
-        return dto;
+        return List.copyOf(roots);
     }
 
     /**
@@ -80,21 +67,4 @@ public class CategoryMapper {
 
         return dto;
     }
-
-    /**
-     * Recursively sorts all categories in the tree by display order
-     */
-    private static void sortCategoryTreeByDisplayOrder(List<CategoryDTO> categories) {
-        if (categories == null || categories.isEmpty()) {
-            return;
-        }
-
-        // Sort the current level
-        categories.sort(Comparator.comparing(CategoryDTO::getDisplayOrder));
-
-        // Recursively sort children
-        for (CategoryDTO category : categories) {
-            sortCategoryTreeByDisplayOrder(category.getChildren());
-        }
-    }
 }
\ No newline at end of file
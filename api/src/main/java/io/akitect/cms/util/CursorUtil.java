@@ -0,0 +1,109 @@
+package io.akitect.cms.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import io.akitect.cms.exception.custom.BadRequestException;
+
+/**
+ * Utility class for keyset (seek) pagination over a timestamp column with the
+ * entity id as tie-breaker. Cursors are opaque URL-safe strings.
+ */
+public final class CursorUtil {
+
+    private static final String SEPARATOR = "|";
+
+    private CursorUtil() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Position of the last row of a page
+     */
+    public record Cursor(LocalDateTime sortValue, UUID id) {
+    }
+
+    /**
+     * Encode the position of a row as an opaque cursor
+     *
+     * @param sortValue Value of the sort column
+     * @param id        Row ID
+     * @return Encoded cursor
+     */
+    public static String encode(LocalDateTime sortValue, UUID id) {
+        String raw = sortValue + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor produced by {@link #encode(LocalDateTime, UUID)}
+     *
+     * @param cursor Encoded cursor, blank for the first page
+     * @return Decoded cursor, or null for the first page
+     * @throws BadRequestException if the cursor is malformed
+     */
+    public static Cursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new Cursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Create the sort for a keyset page: the sort column, then id
+     *
+     * @param sortBy    Sort column
+     * @param direction Sort direction (asc/desc)
+     * @return Sort on the column and id in the same direction
+     */
+    public static Sort createSort(String sortBy, String direction) {
+        Sort.Direction sortDirection = "asc".equalsIgnoreCase(direction) ? Sort.Direction.ASC : Sort.Direction.DESC;
+        return Sort.by(sortDirection, sortBy, "id");
+    }
+
+    /**
+     * Create a specification that selects the rows after the cursor position.
+     * Rows with a null sort value are excluded since they cannot be ordered.
+     *
+     * @param <T>       Entity type
+     * @param sortBy    Sort column
+     * @param direction Sort direction (asc/desc)
+     * @param cursor    Decoded cursor, null for the first page
+     * @return Seek specification
+     */
+    public static <T> Specification<T> seekAfter(String sortBy, String direction, Cursor cursor) {
+        boolean ascending = "asc".equalsIgnoreCase(direction);
+
+        return (root, query, cb) -> {
+            if (cursor == null) {
+                return cb.isNotNull(root.get(sortBy));
+            }
+
+            if (ascending) {
+                return cb.or(
+                        cb.greaterThan(root.<LocalDateTime>get(sortBy), cursor.sortValue()),
+                        cb.and(cb.equal(root.get(sortBy), cursor.sortValue()),
+                                cb.greaterThan(root.<UUID>get("id"), cursor.id())));
+            }
+
+            return cb.or(
+                    cb.lessThan(root.<LocalDateTime>get(sortBy), cursor.sortValue()),
+                    cb.and(cb.equal(root.get(sortBy), cursor.sortValue()),
+                            cb.lessThan(root.<UUID>get("id"), cursor.id())));
+        };
+    }
+}
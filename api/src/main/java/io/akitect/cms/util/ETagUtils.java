@@ -0,0 +1,80 @@
+package io.akitect.cms.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.UUID;
+
+import org.springframework.util.DigestUtils;
+
+import io.akitect.cms.dto.PostSummaryDTO;
+
+/**
+ * Utility class for HTTP validators (ETag and Last-Modified) of post
+ * responses.
+ *
+ * Validators are derived from post IDs and {@code updatedAt} only. View counts
+ * are not part of them, so a revalidated copy may show a slightly older count.
+ */
+public final class ETagUtils {
+
+    private ETagUtils() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Strong ETag of a single post
+     *
+     * @param postId    Post ID
+     * @param updatedAt Last modification time of the post
+     * @return Quoted ETag value
+     */
+    public static String forPost(UUID postId, LocalDateTime updatedAt) {
+        return "\"" + postId + "-" + toEpochMilli(updatedAt) + "\"";
+    }
+
+    /**
+     * Strong ETag of a list of posts. Covers the order and modification time of
+     * every post on the page, plus any page state that is not part of the
+     * posts themselves, such as total counts or cursors.
+     *
+     * @param posts     Posts on the page, in response order
+     * @param pageState Additional values that appear in the response
+     * @return Quoted ETag value
+     */
+    public static String forPosts(Collection<PostSummaryDTO> posts, Object... pageState) {
+        StringBuilder key = new StringBuilder();
+        for (PostSummaryDTO post : posts) {
+            key.append(post.getId()).append(':').append(toEpochMilli(post.getUpdatedAt())).append(';');
+        }
+        for (Object value : pageState) {
+            key.append(value).append(';');
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * Last-Modified time of a list of posts: the newest modification time on
+     * the page
+     *
+     * @param posts Posts on the page
+     * @return Epoch milliseconds, or -1 for an empty page
+     */
+    public static long lastModified(Collection<PostSummaryDTO> posts) {
+        return posts.stream()
+                .mapToLong(post -> toEpochMilli(post.getUpdatedAt()))
+                .max()
+                .orElse(-1);
+    }
+
+    /**
+     * Convert a modification time to epoch milliseconds
+     *
+     * @param updatedAt Modification time in the server time zone
+     * @return Epoch milliseconds, or -1 if unknown
+     */
+    public static long toEpochMilli(LocalDateTime updatedAt) {
+        return updatedAt != null ? updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+    }
+}
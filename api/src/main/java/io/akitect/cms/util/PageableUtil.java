@@ -80,7 +80,7 @@ public final class PageableUtil {
      * @param size Page size to validate
      * @return Validated page size
      */
-    private static int validatePageSize(int size) {
+    public static int validatePageSize(int size) {
         final int minPageSize = 1;
         final int maxPageSize = 100;
         final int defaultPageSize = 10;
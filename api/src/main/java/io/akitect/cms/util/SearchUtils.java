@@ -1,9 +1,10 @@
 package io.akitect.cms.util;
 
+import java.text.Normalizer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
+import java.util.Locale;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
@@ -11,7 +12,6 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.util.CollectionUtils;
 
 import jakarta.persistence.criteria.Expression;
-import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 
 /**
@@ -24,7 +24,9 @@ public final class SearchUtils {
     }
 
     /**
-     * Normalize search text by removing excess whitespace and special characters
+     * Normalize search text by removing excess whitespace and special
+     * characters. Letters and digits of any script are kept, so accented
+     * words such as "tiếng việt" stay whole.
      * 
      * @param text Text to normalize
      * @return Normalized text
@@ -34,11 +36,13 @@ public final class SearchUtils {
             return "";
         }
 
-        // Remove special characters and extra spaces
-        return text.replaceAll("[^a-zA-Z0-9\\s]", " ")
+        // Compose accents so "ế" is one letter however the client encoded it
+        return Normalizer.normalize(text, Normalizer.Form.NFC)
+                // Remove special characters and extra spaces
+                .replaceAll("[^\\p{L}\\p{M}\\p{N}\\s]", " ")
                 .replaceAll("\\s+", " ")
                 .trim()
-                .toLowerCase();
+                .toLowerCase(Locale.ROOT);
     }
 
     /**
@@ -60,6 +64,27 @@ public final class SearchUtils {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Build a PostgreSQL tsquery that matches every token as a prefix, e.g.
+     * {@code "spring boot"} becomes {@code "spring:* & boot:*"}. Tokens are
+     * already stripped of tsquery operators by
+     * {@link #tokenizeSearchText(String)}.
+     * 
+     * @param searchText Text to search for
+     * @return tsquery string, or null if the text has no usable tokens
+     */
+    public static String toPrefixTsQuery(String searchText) {
+        List<String> tokens = tokenizeSearchText(searchText);
+
+        if (CollectionUtils.isEmpty(tokens)) {
+            return null;
+        }
+
+        return tokens.stream()
+                .map(token -> token + ":*")
+                .collect(Collectors.joining(" & "));
+    }
+
     /**
      * Create a specification for full-text search across multiple fields
      * 
@@ -100,84 +125,4 @@ public final class SearchUtils {
             return cb.and(predicates.toArray(new Predicate[0]));
         };
     }
-
-    /**
-     * Calculate match relevance score for sorting results
-     * 
-     * @param <T>        Entity type
-     * @param searchText Search text
-     * @param fieldScore Map of field names to their importance score
-     * @return Specification that adds score calculation
-     */
-    public static <T> Specification<T> withRelevanceScore(
-            String searchText, Map<String, Integer> fieldScore) {
-
-        if (StringUtils.isBlank(searchText) || CollectionUtils.isEmpty(fieldScore)) {
-            return null;
-        }
-
-        List<String> tokens = tokenizeSearchText(searchText);
-
-        if (CollectionUtils.isEmpty(tokens)) {
-            return null;
-        }
-
-        return (root, query, cb) -> {
-            // For each field and token, calculate score when there's a match
-            List<Expression<Integer>> scores = new ArrayList<>();
-
-            fieldScore.forEach((field, weight) -> {
-                Path<String> fieldPath = FilterUtils.getPropertyPath(root, field);
-
-                for (String token : tokens) {
-                    // Add weight score when field contains the token
-                    scores.add(cb.<Integer>selectCase()
-                            .when(cb.like(cb.lower(fieldPath), "%" + token + "%"), weight)
-                            .otherwise(0));
-
-                    // Bonus points for exact match
-                    scores.add(cb.<Integer>selectCase()
-                            .when(cb.equal(cb.lower(fieldPath), token), weight * 2)
-                            .otherwise(0));
-                }
-            });
-
-            // Sum all scores to get total relevance
-            Expression<Integer> totalScore = scores.get(0);
-            for (int i = 1; i < scores.size(); i++) {
-                totalScore = cb.sum(totalScore, scores.get(i));
-            }
-
-            // Add score as a selection
-            query.multiselect(root, totalScore);
-            query.orderBy(cb.desc(totalScore));
-
-            // Must have a score > 0
-            return cb.gt(totalScore, 0);
-        };
-    }
-
-    /**
-     * Create a specification that performs full-text search and calculates
-     * relevance score
-     * 
-     * @param <T>        Entity type
-     * @param searchText Text to search for
-     * @param fieldScore Map of field names to their importance score
-     * @return Combined specification
-     */
-    public static <T> Specification<T> searchWithRelevance(
-            String searchText, Map<String, Integer> fieldScore) {
-
-        if (StringUtils.isBlank(searchText) || CollectionUtils.isEmpty(fieldScore)) {
-            return null;
-        }
-
-        Specification<T> textSearch = createFullTextSpecification(
-                searchText, fieldScore.keySet().toArray(new String[0]));
-
-        Specification<T> relevanceScore = withRelevanceScore(searchText, fieldScore);
-
-        return Specification.where(textSearch).and(relevanceScore);
-    }
-}
\ No newline at end of file
+}
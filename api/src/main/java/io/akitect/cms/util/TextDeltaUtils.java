@@ -0,0 +1,180 @@
+package io.akitect.cms.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Utility class for compact text deltas, used to store post revisions.
+ *
+ * Text is split into tokens that end at a line break or at the end of an HTML
+ * tag, so editor output without line breaks still diffs at a useful
+ * granularity. A delta is a deflated sequence of operations that either copy a
+ * run of tokens from the base text or insert literal text.
+ */
+public final class TextDeltaUtils {
+
+    private static final Pattern TOKEN_BOUNDARY = Pattern.compile("(?<=[\\n>])");
+
+    private static final int FORMAT_VERSION = 1;
+    private static final int OP_END = 0;
+    private static final int OP_COPY = 1;
+    private static final int OP_INSERT = 2;
+
+    // Occurrences of a token in the base text tried when looking for the longest copy
+    private static final int MAX_CANDIDATES = 16;
+
+    private TextDeltaUtils() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Compute a compressed delta that turns the base text into the target text
+     *
+     * @param base   Base text
+     * @param target Target text
+     * @return Delta to pass to {@link #apply(String, byte[])} with the same base
+     */
+    public static byte[] diff(String base, String target) {
+        List<String> baseTokens = tokenize(base);
+        List<String> targetTokens = tokenize(target);
+
+        Map<String, List<Integer>> positions = new HashMap<>();
+        for (int i = 0; i < baseTokens.size(); i++) {
+            positions.computeIfAbsent(baseTokens.get(i), token -> new ArrayList<>()).add(i);
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes, deflater))) {
+            out.writeByte(FORMAT_VERSION);
+
+            StringBuilder literal = new StringBuilder();
+            // Base position right after the previous copy; edits rarely reorder text
+            int next = -1;
+            int i = 0;
+            while (i < targetTokens.size()) {
+                int bestStart = -1;
+                int bestLength = 0;
+                if (next >= 0 && next < baseTokens.size() && baseTokens.get(next).equals(targetTokens.get(i))) {
+                    bestStart = next;
+                    bestLength = matchLength(baseTokens, next, targetTokens, i);
+                } else {
+                    List<Integer> candidates = positions.getOrDefault(targetTokens.get(i), List.of());
+                    for (int c = 0; c < Math.min(candidates.size(), MAX_CANDIDATES); c++) {
+                        int length = matchLength(baseTokens, candidates.get(c), targetTokens, i);
+                        if (length > bestLength) {
+                            bestStart = candidates.get(c);
+                            bestLength = length;
+                        }
+                    }
+                }
+
+                if (bestLength == 0) {
+                    literal.append(targetTokens.get(i++));
+                    continue;
+                }
+
+                writeInsert(out, literal);
+                out.writeByte(OP_COPY);
+                out.writeInt(bestStart);
+                out.writeInt(bestLength);
+                i += bestLength;
+                next = bestStart + bestLength;
+            }
+
+            writeInsert(out, literal);
+            out.writeByte(OP_END);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode text delta", e);
+        } finally {
+            deflater.end();
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Apply a delta produced by {@link #diff(String, String)} to its base text
+     *
+     * @param base  Base text the delta was computed against
+     * @param delta Delta
+     * @return Target text
+     */
+    public static String apply(String base, byte[] delta) {
+        List<String> baseTokens = tokenize(base);
+        StringBuilder result = new StringBuilder();
+
+        Inflater inflater = new Inflater();
+        try (DataInputStream in = new DataInputStream(
+                new InflaterInputStream(new ByteArrayInputStream(delta), inflater))) {
+            int version = in.readUnsignedByte();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unsupported text delta version: " + version);
+            }
+
+            while (true) {
+                int op = in.readUnsignedByte();
+                if (op == OP_END) {
+                    return result.toString();
+                } else if (op == OP_COPY) {
+                    int start = in.readInt();
+                    int length = in.readInt();
+                    for (int i = start; i < start + length; i++) {
+                        result.append(baseTokens.get(i));
+                    }
+                } else if (op == OP_INSERT) {
+                    byte[] literal = new byte[in.readInt()];
+                    in.readFully(literal);
+                    result.append(new String(literal, StandardCharsets.UTF_8));
+                } else {
+                    throw new IllegalArgumentException("Unknown text delta operation: " + op);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode text delta", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static List<String> tokenize(String text) {
+        if (text == null || text.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.asList(TOKEN_BOUNDARY.split(text));
+    }
+
+    private static int matchLength(List<String> base, int baseStart, List<String> target, int targetStart) {
+        int length = 0;
+        while (baseStart + length < base.size() && targetStart + length < target.size()
+                && base.get(baseStart + length).equals(target.get(targetStart + length))) {
+            length++;
+        }
+        return length;
+    }
+
+    private static void writeInsert(DataOutputStream out, StringBuilder literal) throws IOException {
+        if (literal.isEmpty()) {
+            return;
+        }
+        byte[] bytes = literal.toString().getBytes(StandardCharsets.UTF_8);
+        out.writeByte(OP_INSERT);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+        literal.setLength(0);
+    }
+}
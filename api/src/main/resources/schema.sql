@@ -0,0 +1,103 @@
+-- Runs after Hibernate has created/updated the tables (see spring.jpa.defer-datasource-initialization).
+-- Every statement must be idempotent.
+
+-- Full-text search over posts: title weighted A, excerpt B, content C
+ALTER TABLE posts ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(excerpt, '')), 'B') ||
+        setweight(to_tsvector('simple', coalesce(content, '')), 'C')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_posts_search_vector ON posts USING GIN (search_vector);
+
+-- Lets SessionReaper find ended sessions without scanning user_sessions
+CREATE INDEX IF NOT EXISTS idx_user_sessions_expires_at ON user_sessions (expires_at);
+CREATE INDEX IF NOT EXISTS idx_user_sessions_revoked_at ON user_sessions (revoked_at) WHERE revoked_at IS NOT NULL;
+
+-- Category hierarchy as a closure table: one row per (ancestor, descendant) pair,
+-- each category also paired with itself at depth 0. Maintained by CategoryHierarchy
+-- and checked against parent_id on every start: only rows that disagree are deleted
+-- or inserted, so a consistent table is left alone and instances starting together
+-- never remove each other's valid rows.
+CREATE TABLE IF NOT EXISTS category_closure (
+    ancestor_id uuid NOT NULL REFERENCES categories (id) ON DELETE CASCADE,
+    descendant_id uuid NOT NULL REFERENCES categories (id) ON DELETE CASCADE,
+    depth integer NOT NULL,
+    PRIMARY KEY (ancestor_id, descendant_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_category_closure_descendant ON category_closure (descendant_id);
+
+WITH RECURSIVE paths AS (
+    SELECT id AS ancestor_id, id AS descendant_id, 0 AS depth FROM categories
+    UNION ALL
+    SELECT paths.ancestor_id, c.id, paths.depth + 1
+    FROM paths JOIN categories c ON c.parent_id = paths.descendant_id
+    WHERE paths.depth < 100
+)
+DELETE FROM category_closure cc
+WHERE NOT EXISTS (SELECT 1 FROM paths
+    WHERE paths.ancestor_id = cc.ancestor_id AND paths.descendant_id = cc.descendant_id AND paths.depth = cc.depth);
+
+INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+WITH RECURSIVE paths AS (
+    SELECT id AS ancestor_id, id AS descendant_id, 0 AS depth FROM categories
+    UNION ALL
+    SELECT paths.ancestor_id, c.id, paths.depth + 1
+    FROM paths JOIN categories c ON c.parent_id = paths.descendant_id
+    WHERE paths.depth < 100
+)
+SELECT ancestor_id, descendant_id, depth FROM paths
+ON CONFLICT (ancestor_id, descendant_id) DO NOTHING;
+
+CREATE INDEX IF NOT EXISTS idx_post_categories_category ON post_categories (category_id, post_id);
+
+-- Delta revisions (see PostRevisionStore) keep their content in content_delta
+ALTER TABLE post_revisions ALTER COLUMN content DROP NOT NULL;
+
+-- Revision history is listed newest first per post; content_length backfills rows from before it existed
+CREATE INDEX IF NOT EXISTS idx_post_revisions_post_number ON post_revisions (post_id, revision_number DESC);
+UPDATE post_revisions SET content_length = length(content) WHERE content_length IS NULL AND content IS NOT NULL;
+
+-- Revision numbers are unique per post (PostRevisionStore locks the post before numbering).
+-- Posts that got duplicate numbers from concurrent updates are renumbered in creation order
+-- first, with delta revisions pointed at the renumbered snapshot they were based on.
+WITH numbered AS (
+    SELECT r.id, r.post_id, r.revision_number AS old_number, r.base_revision_number, r.created_at,
+        row_number() OVER (PARTITION BY r.post_id ORDER BY r.revision_number, r.created_at, r.id) AS new_number
+    FROM post_revisions r
+    WHERE r.post_id IN (SELECT post_id FROM post_revisions GROUP BY post_id, revision_number HAVING count(*) > 1)
+)
+UPDATE post_revisions r SET revision_number = n.new_number,
+    base_revision_number = (SELECT b.new_number FROM numbered b
+        WHERE b.post_id = n.post_id AND b.old_number = n.base_revision_number AND b.base_revision_number IS NULL
+            AND b.created_at <= n.created_at
+        ORDER BY b.created_at DESC, b.new_number DESC LIMIT 1)
+FROM numbered n
+WHERE r.id = n.id;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_post_revisions_post_number ON post_revisions (post_id, revision_number);
+
+-- Keyset pagination (see CursorUtil.seekAfter) seeks on (sort field, id); public listings also filter on status
+CREATE INDEX IF NOT EXISTS idx_posts_status_published_id ON posts (status, published_at, id);
+CREATE INDEX IF NOT EXISTS idx_posts_created_id ON posts (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_posts_updated_id ON posts (updated_at, id);
+
+-- Prefix lookups for SlugAllocator (slug LIKE 'base-%') regardless of the database collation
+CREATE INDEX IF NOT EXISTS idx_posts_slug_pattern ON posts (slug text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_categories_slug_pattern ON categories (slug text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_tags_slug_pattern ON tags (slug text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_series_slug_pattern ON series (slug text_pattern_ops);
+
+-- Precomputed related posts: top-K list per published post, maintained by RelatedPostsGraph
+CREATE TABLE IF NOT EXISTS post_related (
+    post_id uuid NOT NULL REFERENCES posts (id) ON DELETE CASCADE,
+    rank smallint NOT NULL,
+    related_post_id uuid NOT NULL REFERENCES posts (id) ON DELETE CASCADE,
+    score real NOT NULL,
+    PRIMARY KEY (post_id, rank)
+);
+
+CREATE INDEX IF NOT EXISTS idx_post_related_related ON post_related (related_post_id);
+CREATE INDEX IF NOT EXISTS idx_post_tags_tag ON post_tags (tag_id, post_id);
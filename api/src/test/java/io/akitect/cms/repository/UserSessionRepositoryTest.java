@@ -0,0 +1,86 @@
+package io.akitect.cms.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.akitect.cms.model.User;
+import io.akitect.cms.model.UserSession;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class UserSessionRepositoryTest {
+
+    private static final int ACTIVE_SESSIONS = 10;
+
+    @Autowired
+    private UserSessionRepository userSessionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void revokeAllActiveSessionsRunsOneStatement() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+
+        User user = new User();
+        user.setUsername("sessions-" + suffix);
+        user.setEmail("sessions-" + suffix + "@example.com");
+        user.setPassword("secret");
+        user = userRepository.save(user);
+
+        Set<UUID> activeIds = new HashSet<>();
+        for (int i = 0; i < ACTIVE_SESSIONS; i++) {
+            activeIds.add(userSessionRepository.save(session(user, "active-" + suffix + "-" + i, null)).getId());
+        }
+        UUID revokedId = userSessionRepository
+                .save(session(user, "revoked-" + suffix, LocalDateTime.now().minusDays(1))).getId();
+
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<UUID> revoked = userSessionRepository.revokeAllActiveSessions(user.getId(), LocalDateTime.now());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(activeIds, new HashSet<>(revoked));
+        assertFalse(revoked.contains(revokedId));
+
+        entityManager.clear();
+        assertTrue(userSessionRepository.findActiveSessionsByUserId(user.getId()).isEmpty());
+    }
+
+    private UserSession session(User user, String token, LocalDateTime revokedAt) {
+        UserSession session = new UserSession();
+        session.setUser(user);
+        session.setToken(token);
+        session.setLastActivity(LocalDateTime.now());
+        session.setExpiresAt(LocalDateTime.now().plusDays(7));
+        session.setActive(revokedAt == null);
+        session.setRevokedAt(revokedAt);
+        return session;
+    }
+}
@@ -0,0 +1,213 @@
+package io.akitect.cms.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import io.akitect.cms.dto.PostDTO;
+
+class PostCacheTest {
+
+    private static final String SLUG = "hello-world";
+    private static final int READERS = 16;
+
+    private final PostCache postCache = new PostCache(new ConcurrentMapCacheManager());
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        PostDTO post = post(UUID.randomUUID(), "v1");
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(READERS);
+        try {
+            List<Future<PostDTO>> results = new ArrayList<>();
+            CountDownLatch ready = new CountDownLatch(READERS);
+            for (int i = 0; i < READERS; i++) {
+                results.add(executor.submit(() -> {
+                    ready.countDown();
+                    return postCache.getOrLoad(SLUG, slug -> {
+                        loads.incrementAndGet();
+                        await(release);
+                        return post;
+                    });
+                }));
+            }
+
+            // Let every reader reach the cache before the load completes
+            assertTrue(ready.await(5, TimeUnit.SECONDS));
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<PostDTO> result : results) {
+                assertSame(post, result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, loads.get());
+        assertSame(post, postCache.getBySlug(SLUG));
+    }
+
+    @Test
+    void readersGetStaleCopyWhileRefreshing() throws Exception {
+        UUID postId = UUID.randomUUID();
+        PostDTO previous = post(postId, "v1");
+        PostDTO current = post(postId, "v2");
+        postCache.put(previous);
+
+        // No transaction is active, so the refresh applies immediately
+        postCache.refreshAfterCommit(postId, SLUG);
+
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<PostDTO> reload = executor.submit(() -> postCache.getOrLoad(SLUG, slug -> {
+                loading.countDown();
+                await(release);
+                return current;
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+            AtomicInteger loads = new AtomicInteger();
+            PostDTO duringRefresh = postCache.getOrLoad(SLUG, slug -> {
+                loads.incrementAndGet();
+                return current;
+            });
+            assertSame(previous, duringRefresh);
+            assertEquals(0, loads.get());
+
+            release.countDown();
+            assertSame(current, reload.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertSame(current, postCache.getOrLoad(SLUG, slug -> {
+            throw new AssertionError("reloaded version must be cached");
+        }));
+    }
+
+    @Test
+    void loadRacingWithEvictionIsNotCached() throws Exception {
+        UUID postId = UUID.randomUUID();
+        PostDTO outdated = post(postId, "v1");
+
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<PostDTO> load = executor.submit(() -> postCache.getOrLoad(SLUG, slug -> {
+                loading.countDown();
+                await(release);
+                return outdated;
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+            // A write to the post commits while the load is running
+            postCache.evictAfterCommit(postId, SLUG);
+            release.countDown();
+            assertSame(outdated, load.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertNull(postCache.getBySlug(SLUG));
+    }
+
+    @Test
+    void evictionOfOtherSlugDoesNotBlockCaching() throws Exception {
+        PostDTO post = post(UUID.randomUUID(), "v1");
+
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<PostDTO> load = executor.submit(() -> postCache.getOrLoad(SLUG, slug -> {
+                loading.countDown();
+                await(release);
+                return post;
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+            postCache.evictAfterCommit(UUID.randomUUID(), "another-post");
+            release.countDown();
+            load.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertSame(post, postCache.getBySlug(SLUG));
+    }
+
+    @Test
+    void deletedPostIsNotServedFromStaleCopy() throws Exception {
+        UUID postId = UUID.randomUUID();
+        PostDTO deleted = post(postId, "v1");
+        postCache.put(deleted);
+        postCache.refreshAfterCommit(postId, SLUG);
+
+        // The post is deleted before it was reloaded
+        postCache.evictAfterCommit(postId, SLUG);
+
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PostDTO replacement = post(UUID.randomUUID(), "v2");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<PostDTO> load = executor.submit(() -> postCache.getOrLoad(SLUG, slug -> {
+                loading.countDown();
+                await(release);
+                return replacement;
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+            // The reader waits for the load instead of getting the deleted post
+            Future<PostDTO> reader = executor.submit(() -> postCache.getOrLoad(SLUG, slug -> {
+                throw new AssertionError("must share the running load");
+            }));
+            Thread.sleep(100);
+            assertFalse(reader.isDone());
+
+            release.countDown();
+            assertSame(replacement, load.get(5, TimeUnit.SECONDS));
+            assertSame(replacement, reader.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static PostDTO post(UUID id, String title) {
+        PostDTO post = new PostDTO();
+        post.setId(id);
+        post.setSlug(SLUG);
+        post.setTitle(title);
+        return post;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
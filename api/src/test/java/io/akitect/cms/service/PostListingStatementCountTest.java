@@ -0,0 +1,146 @@
+package io.akitect.cms.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.akitect.cms.dto.PostSummaryDTO;
+import io.akitect.cms.model.Category;
+import io.akitect.cms.model.Post;
+import io.akitect.cms.model.Tag;
+import io.akitect.cms.model.User;
+import io.akitect.cms.repository.CategoryRepository;
+import io.akitect.cms.repository.PostRepository;
+import io.akitect.cms.repository.TagRepository;
+import io.akitect.cms.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Post listings must run a bounded number of statements regardless of the
+ * page size, and must never load Post entities (and with them the content).
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class PostListingStatementCountTest {
+
+    private static final int POST_COUNT = 15;
+
+    // ids, count, listing columns with authors, categories, tags
+    private static final long MAX_STATEMENTS = 5;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User author;
+
+    @BeforeEach
+    void createPosts() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+
+        author = new User();
+        author.setUsername("listing-" + suffix);
+        author.setEmail("listing-" + suffix + "@example.com");
+        author.setPassword("secret");
+        author = userRepository.save(author);
+
+        Category category = new Category();
+        category.setName("Listing " + suffix);
+        category.setSlug("listing-" + suffix);
+        category = categoryRepository.save(category);
+
+        Tag tag = new Tag();
+        tag.setName("listing-" + suffix);
+        tag.setSlug("listing-" + suffix);
+        tag = tagRepository.save(tag);
+
+        for (int i = 0; i < POST_COUNT; i++) {
+            Post post = new Post();
+            post.setTitle("Listing post " + i);
+            post.setSlug("listing-" + suffix + "-" + i);
+            post.setContent("Body " + i);
+            post.setAuthor(author);
+            post.setCategories(Set.of(category));
+            post.setTags(Set.of(tag));
+            postRepository.save(post);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void statementCountDoesNotGrowWithPageSize() {
+        long small = countStatements(5);
+        long large = countStatements(POST_COUNT - 1);
+
+        assertTrue(small <= MAX_STATEMENTS, "page of 5 ran " + small + " statements");
+        assertEquals(small, large, "statements must not depend on the page size");
+    }
+
+    @Test
+    void listingDoesNotLoadPostEntities() {
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        Page<PostSummaryDTO> page = postService.getFilteredPosts(Map.of("author.id", author.getId()),
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        assertEquals(10, page.getContent().size());
+        assertEquals(POST_COUNT, page.getTotalElements());
+        assertEquals(0, statistics.getEntityStatistics(Post.class.getName()).getLoadCount());
+        page.getContent().forEach(post -> {
+            assertEquals(author.getId(), post.getAuthorId());
+            assertEquals(1, post.getCategories().size());
+            assertEquals(1, post.getTags().size());
+        });
+    }
+
+    private long countStatements(int pageSize) {
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        Page<PostSummaryDTO> page = postService.getFilteredPosts(Map.of("author.id", author.getId()),
+                PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "createdAt")));
+        assertEquals(pageSize, page.getContent().size());
+
+        entityManager.clear();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -0,0 +1,50 @@
+package io.akitect.cms.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.text.Normalizer;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class SearchUtilsTest {
+
+    @Test
+    void toPrefixTsQueryKeepsAsciiTokens() {
+        assertEquals("spring:* & boot:*", SearchUtils.toPrefixTsQuery("Spring  Boot"));
+    }
+
+    @Test
+    void toPrefixTsQueryKeepsAccentedWordsWhole() {
+        assertEquals("tiếng:* & việt:*", SearchUtils.toPrefixTsQuery("Tiếng Việt"));
+    }
+
+    @Test
+    void toPrefixTsQueryComposesDecomposedAccents() {
+        String decomposed = Normalizer.normalize("tiếng việt", Normalizer.Form.NFD);
+
+        assertEquals("tiếng:* & việt:*", SearchUtils.toPrefixTsQuery(decomposed));
+    }
+
+    @Test
+    void toPrefixTsQueryKeepsOtherScripts() {
+        assertEquals("日本語:* & café:*", SearchUtils.toPrefixTsQuery("日本語 café"));
+    }
+
+    @Test
+    void toPrefixTsQueryStripsTsQueryOperators() {
+        assertEquals("java:* & spring:*", SearchUtils.toPrefixTsQuery("java & !spring | ('x':*)"));
+    }
+
+    @Test
+    void toPrefixTsQueryReturnsNullWithoutUsableTokens() {
+        assertNull(SearchUtils.toPrefixTsQuery("  & ! a "));
+        assertNull(SearchUtils.toPrefixTsQuery(null));
+    }
+
+    @Test
+    void tokenizeSearchTextDropsSingleCharacters() {
+        assertEquals(List.of("đà", "nẵng"), SearchUtils.tokenizeSearchText("Đà a Nẵng!"));
+    }
+}
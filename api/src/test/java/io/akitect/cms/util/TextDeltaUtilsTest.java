@@ -0,0 +1,156 @@
+package io.akitect.cms.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.Deflater;
+
+import org.junit.jupiter.api.Test;
+
+class TextDeltaUtilsTest {
+
+    private static final String ARTICLE = "<h1>Title</h1>\n<p>First paragraph.</p>\n<p>Second paragraph.</p>\n"
+            + "<ul><li>One</li><li>Two</li></ul>\n<p>Closing words.</p>\n";
+
+    @Test
+    void roundTripsIdenticalText() {
+        assertRoundTrip(ARTICLE, ARTICLE);
+    }
+
+    @Test
+    void roundTripsFromEmptyOrNullBase() {
+        assertRoundTrip("", ARTICLE);
+        assertRoundTrip(null, ARTICLE);
+        assertEquals(ARTICLE, TextDeltaUtils.apply(null, TextDeltaUtils.diff(null, ARTICLE)));
+    }
+
+    @Test
+    void roundTripsToEmptyText() {
+        assertRoundTrip(ARTICLE, "");
+        assertRoundTrip("", "");
+    }
+
+    @Test
+    void roundTripsWithoutTrailingNewline() {
+        assertRoundTrip("line one\nline two", "line one\nline two changed");
+        assertRoundTrip("line one\nline two\n", "line one\nline two");
+        assertRoundTrip("no breaks at all", "still no breaks, but longer");
+    }
+
+    @Test
+    void roundTripsLeadingAndRepeatedLineBreaks() {
+        assertRoundTrip("\n\nstart\n\n\n", "\nstart\n\n\n\nend");
+        assertRoundTrip(">>\n>", ">\n>>\n");
+    }
+
+    @Test
+    void roundTripsReorderedBlocks() {
+        String reordered = "<p>Closing words.</p>\n<ul><li>One</li><li>Two</li></ul>\n<h1>Title</h1>\n"
+                + "<p>Second paragraph.</p>\n<p>First paragraph.</p>\n";
+        assertRoundTrip(ARTICLE, reordered);
+    }
+
+    @Test
+    void roundTripsNonAsciiText() {
+        String base = "<p>Tiếng Việt có dấu.</p>\n<p>日本語のテキスト</p>\n<p>Emoji 🎉 and ü</p>\n";
+        String target = "<p>Tiếng Việt có dấu, đã sửa.</p>\n<p>Emoji 🎉 and ü</p>\n<p>Ελληνικά 😀</p>\n";
+        assertRoundTrip(base, target);
+        assertRoundTrip(target, base);
+    }
+
+    @Test
+    void roundTripsRepeatedTokens() {
+        String base = "<br>".repeat(50) + "\n".repeat(20) + "<p>x</p>\n".repeat(30);
+        String target = "<p>x</p>\n".repeat(10) + "<br>".repeat(60) + "<p>y</p>\n" + "<p>x</p>\n".repeat(25);
+        assertRoundTrip(base, target);
+    }
+
+    @Test
+    void smallEditProducesSmallDelta() {
+        StringBuilder base = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            base.append("<p>Paragraph ").append(i).append(" with some body text.</p>\n");
+        }
+        String target = base.toString().replace("Paragraph 250 ", "Paragraph two hundred fifty ");
+
+        byte[] delta = assertRoundTrip(base.toString(), target);
+        assertTrue(delta.length < 200, "delta of a one-line edit took " + delta.length + " bytes");
+    }
+
+    @Test
+    void roundTripsRandomEdits() {
+        Random random = new Random(42);
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            lines.add(randomLine(random));
+        }
+        String base = String.join("", lines);
+
+        for (int round = 0; round < 200; round++) {
+            List<String> edited = new ArrayList<>(lines);
+            int edits = 1 + random.nextInt(10);
+            for (int e = 0; e < edits; e++) {
+                int at = random.nextInt(edited.size());
+                switch (random.nextInt(4)) {
+                    case 0 -> edited.add(at, randomLine(random));
+                    case 1 -> edited.remove(at);
+                    case 2 -> edited.set(at, randomLine(random));
+                    default -> Collections.swap(edited, at, random.nextInt(edited.size()));
+                }
+                if (edited.isEmpty()) {
+                    edited.add(randomLine(random));
+                }
+            }
+            String target = String.join("", edited);
+            if (random.nextBoolean()) {
+                // Also cover text that does not end at a token boundary
+                target = target + "tail " + round;
+            }
+            assertRoundTrip(base, target);
+        }
+    }
+
+    @Test
+    void rejectsUnknownFormatVersion() {
+        byte[] delta = deflate(new byte[] { 99, 0 });
+        assertThrows(IllegalArgumentException.class, () -> TextDeltaUtils.apply("base", delta));
+    }
+
+    @Test
+    void rejectsUndeflatedInput() {
+        assertThrows(UncheckedIOException.class, () -> TextDeltaUtils.apply("base", new byte[] { 1, 2, 3 }));
+    }
+
+    private static byte[] assertRoundTrip(String base, String target) {
+        byte[] delta = TextDeltaUtils.diff(base, target);
+        assertEquals(target, TextDeltaUtils.apply(base, delta));
+        return delta;
+    }
+
+    private static byte[] deflate(byte[] data) {
+        Deflater deflater = new Deflater();
+        deflater.setInput(data);
+        deflater.finish();
+        byte[] buffer = new byte[64];
+        int length = deflater.deflate(buffer);
+        deflater.end();
+        return Arrays.copyOf(buffer, length);
+    }
+
+    private static String randomLine(Random random) {
+        String[] words = { "alpha", "beta", "gamma", "<b>bold</b>", "tiếng", "việt", "日本", "🎉", "x", "" };
+        StringBuilder line = new StringBuilder("<p>");
+        int count = random.nextInt(6);
+        for (int i = 0; i < count; i++) {
+            line.append(words[random.nextInt(words.length)]).append(' ');
+        }
+        return line.append("</p>").append(random.nextInt(5) == 0 ? "" : "\n").toString();
+    }
+}